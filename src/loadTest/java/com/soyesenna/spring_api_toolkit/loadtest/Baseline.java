@@ -0,0 +1,96 @@
+package com.soyesenna.spring_api_toolkit.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Stored per-scenario baselines. A result regresses when its throughput drops, or its p99 latency
+ * or allocation per request grows, by more than the tolerance. Metrics without a baseline are
+ * reported by {@link #missing} so that the runner can warn about them.
+ */
+final class Baseline {
+
+  private final Path path;
+  private final Properties values = new Properties();
+
+  private Baseline(Path path) {
+    this.path = path;
+  }
+
+  static Baseline load(Path path) throws IOException {
+    Baseline baseline = new Baseline(path);
+    if (Files.exists(path)) {
+      try (InputStream input = Files.newInputStream(path)) {
+        baseline.values.load(input);
+      }
+    }
+    return baseline;
+  }
+
+  List<String> regressions(LoadResult result, double tolerance) {
+    List<String> regressions = new ArrayList<>();
+    Double rps = this.value(result.scenario(), "rps");
+    if (rps != null && result.rps() < rps * (1 - tolerance)) {
+      regressions.add(String.format(Locale.ROOT, "%s: rps %.0f < baseline %.0f",
+          result.scenario(), result.rps(), rps));
+    }
+    Double p99 = this.value(result.scenario(), "p99-micros");
+    if (p99 != null && result.p99Micros() > p99 * (1 + tolerance)) {
+      regressions.add(String.format(Locale.ROOT, "%s: p99 %dus > baseline %.0fus",
+          result.scenario(), result.p99Micros(), p99));
+    }
+    Double alloc = this.value(result.scenario(), "alloc-bytes-per-request");
+    if (alloc != null && result.allocBytesPerRequest() > alloc * (1 + tolerance)) {
+      regressions.add(String.format(Locale.ROOT, "%s: alloc %d B/req > baseline %.0f B/req",
+          result.scenario(), result.allocBytesPerRequest(), alloc));
+    }
+    return regressions;
+  }
+
+  /**
+   * Returns the metrics of the result that have no stored baseline.
+   */
+  List<String> missing(LoadResult result) {
+    List<String> missing = new ArrayList<>();
+    if (this.value(result.scenario(), "rps") == null) {
+      missing.add("rps");
+    }
+    if (this.value(result.scenario(), "p99-micros") == null) {
+      missing.add("p99-micros");
+    }
+    if (result.allocBytesPerRequest() >= 0
+        && this.value(result.scenario(), "alloc-bytes-per-request") == null) {
+      missing.add("alloc-bytes-per-request");
+    }
+    return missing;
+  }
+
+  void update(LoadResult result) {
+    this.values.setProperty(result.scenario() + ".rps",
+        String.format(Locale.ROOT, "%.0f", result.rps()));
+    this.values.setProperty(result.scenario() + ".p99-micros",
+        String.valueOf(result.p99Micros()));
+    if (result.allocBytesPerRequest() >= 0) {
+      this.values.setProperty(result.scenario() + ".alloc-bytes-per-request",
+          String.valueOf(result.allocBytesPerRequest()));
+    }
+  }
+
+  void store() throws IOException {
+    try (OutputStream output = Files.newOutputStream(this.path)) {
+      this.values.store(output, "Load test baselines, updated with -Ploadtest.updateBaseline");
+    }
+  }
+
+  private Double value(String scenario, String metric) {
+    String value = this.values.getProperty(scenario + "." + metric);
+    return value == null || value.isBlank() ? null : Double.valueOf(value.trim());
+  }
+}
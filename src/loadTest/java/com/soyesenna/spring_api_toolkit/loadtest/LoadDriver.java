@@ -0,0 +1,170 @@
+package com.soyesenna.spring_api_toolkit.loadtest;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop HTTP load driver: each of {@code concurrency} virtual threads sends the next request
+ * as soon as the previous response arrived.
+ * <p>
+ * The server runs in the same JVM, so allocation is measured per thread and only for the server's
+ * request threads (those whose name starts with {@code serverThreadPrefix}); the driver's own
+ * allocations are not counted.
+ */
+final class LoadDriver {
+
+  private final HttpClient client;
+  private final int concurrency;
+  private final String serverThreadPrefix;
+
+  LoadDriver(int concurrency, String serverThreadPrefix) {
+    this.concurrency = concurrency;
+    this.serverThreadPrefix = serverThreadPrefix;
+    this.client = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+  }
+
+  LoadResult run(String scenario, URI uri, int expectedStatus, Duration duration)
+      throws InterruptedException, ExecutionException {
+    HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+    Map<Long, Long> allocatedBefore = this.serverAllocations();
+    long start = System.nanoTime();
+    long end = start + duration.toNanos();
+
+    List<Future<Worker>> futures = new ArrayList<>(this.concurrency);
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < this.concurrency; i++) {
+        futures.add(executor.submit(() -> new Worker().run(this.client, request, expectedStatus,
+            end)));
+      }
+    }
+    long elapsed = System.nanoTime() - start;
+    long allocated = allocatedSince(allocatedBefore, this.serverAllocations());
+
+    int total = 0;
+    long unexpectedStatus = 0;
+    long errors = 0;
+    for (Future<Worker> future : futures) {
+      total += future.get().size;
+      unexpectedStatus += future.get().unexpectedStatus;
+      errors += future.get().errors;
+    }
+    long[] latencies = new long[total];
+    int offset = 0;
+    for (Future<Worker> future : futures) {
+      Worker worker = future.get();
+      System.arraycopy(worker.latencies, 0, latencies, offset, worker.size);
+      offset += worker.size;
+    }
+    Arrays.sort(latencies);
+
+    double seconds = elapsed / 1_000_000_000.0;
+    return new LoadResult(
+        scenario,
+        total,
+        unexpectedStatus,
+        errors,
+        total / seconds,
+        percentile(latencies, 50) / 1_000,
+        percentile(latencies, 99) / 1_000,
+        percentile(latencies, 99.9) / 1_000,
+        allocated < 0 ? -1 : allocated / seconds / (1024 * 1024),
+        allocated < 0 || total == 0 ? -1 : allocated / total);
+  }
+
+  private static long percentile(long[] sorted, double percentile) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int index = (int) Math.ceil(sorted.length * percentile / 100.0) - 1;
+    return sorted[Math.min(Math.max(index, 0), sorted.length - 1)];
+  }
+
+  /**
+   * Heap bytes allocated so far per live server thread id, or {@code null} if the JVM does not
+   * support per-thread allocation counting.
+   */
+  private Map<Long, Long> serverAllocations() {
+    if (!(ManagementFactory.getThreadMXBean()
+        instanceof com.sun.management.ThreadMXBean threadMXBean)
+        || !threadMXBean.isThreadAllocatedMemorySupported()
+        || !threadMXBean.isThreadAllocatedMemoryEnabled()) {
+      return null;
+    }
+    long[] ids = Thread.getAllStackTraces().keySet().stream()
+        .filter(thread -> thread.getName().startsWith(this.serverThreadPrefix))
+        .mapToLong(Thread::threadId)
+        .toArray();
+    long[] allocated = threadMXBean.getThreadAllocatedBytes(ids);
+    Map<Long, Long> allocations = new HashMap<>(ids.length * 2);
+    for (int i = 0; i < ids.length; i++) {
+      if (allocated[i] >= 0) {
+        allocations.put(ids[i], allocated[i]);
+      }
+    }
+    return allocations;
+  }
+
+  /**
+   * Bytes allocated between the two samples, or -1 if allocation is not measured. Threads started
+   * in between count from zero; threads that ended in between are not counted.
+   */
+  private static long allocatedSince(Map<Long, Long> before, Map<Long, Long> after) {
+    if (before == null || after == null) {
+      return -1;
+    }
+    long allocated = 0;
+    for (Map.Entry<Long, Long> entry : after.entrySet()) {
+      allocated += entry.getValue() - before.getOrDefault(entry.getKey(), 0L);
+    }
+    return allocated;
+  }
+
+  private static final class Worker {
+
+    private long[] latencies = new long[1024];
+    private int size;
+    private long unexpectedStatus;
+    private long errors;
+
+    private Worker run(HttpClient client, HttpRequest request, int expectedStatus, long end)
+        throws InterruptedException {
+      while (System.nanoTime() < end) {
+        long start = System.nanoTime();
+        HttpResponse<Void> response;
+        try {
+          response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (IOException exception) {
+          this.errors++;
+          continue;
+        }
+        long elapsed = System.nanoTime() - start;
+        if (response.statusCode() != expectedStatus) {
+          this.unexpectedStatus++;
+        }
+        if (this.size == this.latencies.length) {
+          this.latencies = Arrays.copyOf(this.latencies, this.size * 2);
+        }
+        this.latencies[this.size++] = elapsed;
+      }
+      return this;
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package com.soyesenna.spring_api_toolkit.loadtest;
+
+/**
+ * Outcome of one scenario.
+ *
+ * @param scenario          scenario name
+ * @param requests          completed requests
+ * @param unexpectedStatus  responses whose status differed from the expected one
+ * @param errors            requests that failed with an I/O error
+ * @param rps               requests per second
+ * @param p50Micros         median latency in microseconds
+ * @param p99Micros         99th percentile latency in microseconds
+ * @param p999Micros        99.9th percentile latency in microseconds
+ * @param allocMbPerSecond  heap allocation rate of the server threads
+ * @param allocBytesPerRequest heap allocation of the server threads per request
+ */
+record LoadResult(
+    String scenario,
+    long requests,
+    long unexpectedStatus,
+    long errors,
+    double rps,
+    long p50Micros,
+    long p99Micros,
+    long p999Micros,
+    double allocMbPerSecond,
+    long allocBytesPerRequest
+) {
+
+}
@@ -0,0 +1,55 @@
+package com.soyesenna.spring_api_toolkit.loadtest;
+
+import com.soyesenna.spring_api_toolkit.api.core.ApiData;
+import com.soyesenna.spring_api_toolkit.api.pagination.PagingRequest;
+import com.soyesenna.spring_api_toolkit.api.pagination.PagingResponse;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/load")
+class LoadTestController {
+
+  private static final long TOTAL_ITEMS = 10_000;
+
+  @GetMapping("/success")
+  public ApiData<Item> success() {
+    return ApiData.ok(new Item(1L, "item-1", 1_000L));
+  }
+
+  @GetMapping("/core-error/{id}")
+  public ApiData<Item> coreError(@PathVariable Long id) {
+    throw SampleErrorCode.ITEM_NOT_FOUND.args(id).throwException();
+  }
+
+  @GetMapping("/unexpected-error")
+  public ApiData<Item> unexpectedError() {
+    throw new IllegalStateException("Unexpected failure");
+  }
+
+  @GetMapping("/page")
+  public ApiData<PagingResponse<ItemDto>> page(PagingRequest pagingRequest) {
+    Pageable pageable = pagingRequest.toPageable();
+    List<Item> content = new ArrayList<>(pageable.getPageSize());
+    long first = pageable.getOffset();
+    for (long id = first; id < Math.min(first + pageable.getPageSize(), TOTAL_ITEMS); id++) {
+      content.add(new Item(id, "item-" + id, id * 100));
+    }
+    PageImpl<Item> page = new PageImpl<>(content, pageable, TOTAL_ITEMS);
+    return ApiData.ok(PagingResponse.from(page, item -> new ItemDto(item.id(), item.name())));
+  }
+
+  record Item(Long id, String name, Long price) {
+
+  }
+
+  record ItemDto(Long id, String name) {
+
+  }
+}
@@ -0,0 +1,152 @@
+package com.soyesenna.spring_api_toolkit.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Entry point of the {@code loadTest} Gradle task. Boots {@link LoadTestApplication} on a random
+ * port, drives every scenario through the full filter chain, message conversion and
+ * {@code ApiDataAdvice}, prints the results and exits with status 1 when a baseline is regressed
+ * or requests failed. Metrics without a baseline only print a warning until one is recorded.
+ * <p>
+ * Settings (system properties): {@code loadtest.duration}, {@code loadtest.warmup},
+ * {@code loadtest.concurrency}, {@code loadtest.tolerance}, {@code loadtest.baseline} and
+ * {@code loadtest.updateBaseline}.
+ */
+public final class LoadTestRunner {
+
+  private LoadTestRunner() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  public static void main(String[] args) throws Exception {
+    Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT10S"));
+    Duration warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT3S"));
+    int concurrency = Integer.getInteger("loadtest.concurrency", 32);
+    double tolerance = Double.parseDouble(System.getProperty("loadtest.tolerance", "0.15"));
+    Path baselinePath = Path.of(System.getProperty("loadtest.baseline",
+        "src/loadTest/resources/load-test-baseline.properties"));
+    boolean updateBaseline = Boolean.getBoolean("loadtest.updateBaseline");
+
+    List<Scenario> scenarios = List.of(
+        new Scenario("success", "/load/success", 200),
+        new Scenario("core-exception", "/load/core-error/42", 404),
+        new Scenario("unexpected-error", "/load/unexpected-error", 500),
+        new Scenario("paging", "/load/page?page=3&size=50", 200));
+
+    List<LoadResult> results = new ArrayList<>();
+    // Tomcat names its threads http-nio-<port>-..., e.g. http-nio-auto-1-exec-1 on a random port
+    LoadDriver driver = new LoadDriver(concurrency, "http-nio-");
+    results.addAll(runScenarios(args, List.of(), scenarios, driver, warmup, duration));
+    // The success scenario again with the profiler on; the difference to "success" is its
+    // per-request overhead
+    results.addAll(runScenarios(args,
+        List.of("api.profiler.enabled=true", "api.profiler.log-summary=false"),
+        List.of(new Scenario("success-profiled", "/load/success", 200)),
+        driver, warmup, duration));
+
+    print(results);
+    printProfilerOverhead(results, concurrency);
+
+    Baseline baseline = Baseline.load(baselinePath);
+    if (updateBaseline) {
+      results.forEach(baseline::update);
+      baseline.store();
+      System.out.println("Baseline updated: " + baselinePath.toAbsolutePath());
+      return;
+    }
+
+    List<String> regressions = new ArrayList<>();
+    for (LoadResult result : results) {
+      if (result.unexpectedStatus() > 0) {
+        regressions.add(result.scenario() + ": " + result.unexpectedStatus()
+            + " responses with unexpected status");
+      }
+      if (result.errors() > 0) {
+        regressions.add(result.scenario() + ": " + result.errors() + " requests failed with I/O "
+            + "errors");
+      }
+      List<String> missing = baseline.missing(result);
+      if (!missing.isEmpty()) {
+        System.err.println("Warning: " + result.scenario() + " has no baseline for "
+            + String.join(", ", missing) + " (record it with -Ploadtest.updateBaseline=true)");
+      }
+      regressions.addAll(baseline.regressions(result, tolerance));
+    }
+    if (!regressions.isEmpty()) {
+      System.err.println("Load test regressions (tolerance " + tolerance + "):");
+      regressions.forEach(regression -> System.err.println("  " + regression));
+      System.exit(1);
+    }
+  }
+
+  private static List<LoadResult> runScenarios(String[] args, List<String> properties,
+      List<Scenario> scenarios, LoadDriver driver, Duration warmup, Duration duration)
+      throws Exception {
+    List<String> settings = new ArrayList<>(List.of(
+        "server.port=0",
+        "spring.main.banner-mode=off",
+        "api.log.stack-trace-enabled=false",
+        "logging.level.com.soyesenna.spring_api_toolkit.exception.handler=OFF"));
+    settings.addAll(properties);
+
+    List<LoadResult> results = new ArrayList<>();
+    try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+        LoadTestApplication.class)
+        .properties(settings.toArray(String[]::new))
+        .run(args)) {
+      int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+      for (Scenario scenario : scenarios) {
+        URI uri = URI.create("http://localhost:" + port + scenario.path());
+        driver.run(scenario.name(), uri, scenario.expectedStatus(), warmup);
+        results.add(driver.run(scenario.name(), uri, scenario.expectedStatus(), duration));
+      }
+    }
+    return results;
+  }
+
+  private static void printProfilerOverhead(List<LoadResult> results, int concurrency) {
+    LoadResult plain = find(results, "success");
+    LoadResult profiled = find(results, "success-profiled");
+    if (plain == null || profiled == null || plain.rps() <= 0 || profiled.rps() <= 0) {
+      return;
+    }
+    // Mean time per request of a closed loop is concurrency / rps
+    double overheadMicros = (concurrency / profiled.rps() - concurrency / plain.rps()) * 1e6;
+    System.out.printf(Locale.ROOT,
+        "profiler overhead: %.2f us/req (mean), p50 %+dus, alloc %+d B/req%n",
+        overheadMicros, profiled.p50Micros() - plain.p50Micros(),
+        plain.allocBytesPerRequest() < 0 || profiled.allocBytesPerRequest() < 0 ? 0
+            : profiled.allocBytesPerRequest() - plain.allocBytesPerRequest());
+  }
+
+  private static LoadResult find(List<LoadResult> results, String scenario) {
+    return results.stream()
+        .filter(result -> result.scenario().equals(scenario))
+        .findFirst()
+        .orElse(null);
+  }
+
+  private static void print(List<LoadResult> results) {
+    System.out.printf(Locale.ROOT, "%-18s %10s %8s %10s %10s %10s %10s %12s %12s%n",
+        "scenario", "requests", "errors", "rps", "p50(us)", "p99(us)", "p999(us)", "alloc(MB/s)",
+        "alloc(B/req)");
+    for (LoadResult result : results) {
+      System.out.printf(Locale.ROOT, "%-18s %10d %8d %10.0f %10d %10d %10d %12.1f %12d%n",
+          result.scenario(), result.requests(), result.errors(), result.rps(), result.p50Micros(),
+          result.p99Micros(), result.p999Micros(), result.allocMbPerSecond(),
+          result.allocBytesPerRequest());
+    }
+  }
+
+  private record Scenario(String name, String path, int expectedStatus) {
+
+  }
+}
@@ -0,0 +1,38 @@
+package com.soyesenna.spring_api_toolkit.loadtest;
+
+import com.soyesenna.spring_api_toolkit.exception.error.BaseErrorCode;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.http.HttpStatus;
+
+enum SampleErrorCode implements BaseErrorCode {
+
+  ITEM_NOT_FOUND(HttpStatus.NOT_FOUND, "Item {0} not found");
+
+  private final HttpStatus httpStatus;
+  private final String message;
+
+  SampleErrorCode(HttpStatus httpStatus, String message) {
+    this.httpStatus = httpStatus;
+    this.message = message;
+  }
+
+  @Override
+  public HttpStatus getHttpStatus() {
+    return this.httpStatus;
+  }
+
+  @Override
+  public String getCode() {
+    return this.name();
+  }
+
+  @Override
+  public String getMessage() {
+    return this.message;
+  }
+
+  @Override
+  public LogLevel getLogLevel() {
+    return LogLevel.DEBUG;
+  }
+}
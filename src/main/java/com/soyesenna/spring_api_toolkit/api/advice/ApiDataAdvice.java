@@ -1,12 +1,16 @@
 package com.soyesenna.spring_api_toolkit.api.advice;
 
 import com.soyesenna.spring_api_toolkit.api.core.ApiData;
+import com.soyesenna.spring_api_toolkit.api.timing.ServerTiming;
 import org.springframework.core.MethodParameter;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
@@ -15,6 +19,11 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
 @Component
 public class ApiDataAdvice implements ResponseBodyAdvice<Object> {
 
+  /**
+   * Request attribute holding the {@link ApiData} written for the current request.
+   */
+  public static final String API_DATA_ATTRIBUTE = ApiDataAdvice.class.getName() + ".API_DATA";
+
   @Override
   public boolean supports(MethodParameter returnType,
       Class<? extends HttpMessageConverter<?>> converterType) {
@@ -33,9 +42,26 @@ public class ApiDataAdvice implements ResponseBodyAdvice<Object> {
       return body;
     }
 
+    if (request instanceof ServletServerHttpRequest servletRequest) {
+      servletRequest.getServletRequest().setAttribute(API_DATA_ATTRIBUTE, apiResult);
+    }
     response.setStatusCode(apiResult.getHttpStatus());
     response.getHeaders().addAll(buildHeaders(apiResult));
 
+    ServerTiming timing = ServerTiming.current();
+    if (timing != null && request instanceof ServletServerHttpRequest servletRequest
+        && response instanceof ServletServerHttpResponse servletResponse) {
+      timing.writeTo(servletRequest.getServletRequest(), servletResponse.getServletResponse());
+    }
+
+    if (apiResult.getData() instanceof Resource resource
+        && request instanceof ServletServerHttpRequest servletRequest
+        && response instanceof ServletServerHttpResponse servletResponse) {
+      ResourceResponseWriter.write(resource, apiResult.getContentType(),
+          servletRequest.getServletRequest(), servletResponse);
+      return null;
+    }
+
     if (apiResult.getContentType() == MediaType.APPLICATION_JSON) {
       return apiResult;
     } else {
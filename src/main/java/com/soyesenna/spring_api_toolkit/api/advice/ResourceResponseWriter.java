@@ -0,0 +1,267 @@
+package com.soyesenna.spring_api_toolkit.api.advice;
+
+import com.soyesenna.spring_api_toolkit.exception.error.ToolkitErrorCode;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Writes a {@link Resource} held by an {@code ApiData} straight to the servlet response.
+ * <p>
+ * Files are handed to the container's sendfile support when it is advertised (Tomcat) and copied
+ * with {@link FileChannel#transferTo} otherwise; other resources are streamed. Conditional
+ * requests, single and multipart {@code Range} requests and {@code If-Range} are honoured for
+ * {@code 200 OK} responses. A plain {@link InputStreamResource} can only be read once, so like
+ * {@code ResourceHttpMessageConverter} it is copied without a length and without range support.
+ */
+final class ResourceResponseWriter {
+
+  private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+  private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+  private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+  private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+  private ResourceResponseWriter() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * Writes status, headers and body. The status and headers of the {@code ApiData} must already
+   * be applied to {@code response}.
+   */
+  static void write(Resource resource, MediaType contentType, HttpServletRequest request,
+      ServletServerHttpResponse response) {
+    if (!resource.isReadable()) {
+      throw ToolkitErrorCode.NOT_FOUND.throwWithoutStackTrace();
+    }
+    try {
+      writeResource(resource, contentType, request, response);
+    } catch (IOException e) {
+      throw new HttpMessageNotWritableException("Could not write resource: " + e.getMessage(), e);
+    }
+  }
+
+  private static void writeResource(Resource resource, MediaType contentType,
+      HttpServletRequest request, ServletServerHttpResponse response) throws IOException {
+    HttpServletResponse servletResponse = response.getServletResponse();
+    HttpHeaders headers = response.getHeaders();
+    boolean streamOnly = InputStreamResource.class == resource.getClass();
+    long length = streamOnly ? -1 : resource.contentLength();
+    long lastModified = lastModified(resource);
+    String etag = headers.getETag();
+    boolean ok = servletResponse.getStatus() == HttpStatus.OK.value();
+
+    if (lastModified > 0 && headers.getLastModified() < 0) {
+      headers.setLastModified(lastModified);
+    }
+    if (ok) {
+      if (!streamOnly) {
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+      }
+      boolean notModified = new ServletWebRequest(request, servletResponse)
+          .checkNotModified(etag, lastModified);
+      // checkNotModified writes the validators to the servlet response itself
+      if (servletResponse.containsHeader(HttpHeaders.ETAG)) {
+        headers.remove(HttpHeaders.ETAG);
+      }
+      if (servletResponse.containsHeader(HttpHeaders.LAST_MODIFIED)) {
+        headers.remove(HttpHeaders.LAST_MODIFIED);
+      }
+      if (notModified) {
+        headers.remove(HttpHeaders.CONTENT_TYPE);
+        response.flush();
+        return;
+      }
+    }
+
+    if (streamOnly) {
+      writeStream(resource, request, response);
+      return;
+    }
+
+    String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+    if (!ok || rangeHeader == null || !rangeStillValid(request, etag, lastModified)) {
+      headers.setContentLength(length);
+      writeRegion(new ResourceRegion(resource, 0, length), request, response);
+      return;
+    }
+
+    List<ResourceRegion> regions;
+    try {
+      regions = HttpRange.toResourceRegions(HttpRange.parseRanges(rangeHeader), resource);
+    } catch (IllegalArgumentException e) {
+      response.setStatusCode(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+      headers.remove(HttpHeaders.CONTENT_TYPE);
+      headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+      headers.setContentLength(0);
+      response.flush();
+      return;
+    }
+
+    response.setStatusCode(HttpStatus.PARTIAL_CONTENT);
+    if (regions.size() == 1) {
+      ResourceRegion region = regions.get(0);
+      headers.set(HttpHeaders.CONTENT_RANGE, contentRange(region, length));
+      headers.setContentLength(region.getCount());
+      writeRegion(region, request, response);
+      return;
+    }
+    writeMultipart(regions, contentType, length, request, response);
+  }
+
+  private static void writeMultipart(List<ResourceRegion> regions, MediaType contentType,
+      long length, HttpServletRequest request, ServletServerHttpResponse response)
+      throws IOException {
+    String boundary = new String(MimeTypeUtils.generateMultipartBoundary(),
+        StandardCharsets.US_ASCII);
+    byte[][] partHeaders = new byte[regions.size()][];
+    byte[] end = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+    long contentLength = end.length;
+    for (int i = 0; i < regions.size(); i++) {
+      ResourceRegion region = regions.get(i);
+      partHeaders[i] = ((i == 0 ? "" : "\r\n") + "--" + boundary + "\r\n"
+          + (contentType == null ? "" : HttpHeaders.CONTENT_TYPE + ": " + contentType + "\r\n")
+          + HttpHeaders.CONTENT_RANGE + ": " + contentRange(region, length) + "\r\n\r\n")
+          .getBytes(StandardCharsets.US_ASCII);
+      contentLength += partHeaders[i].length + region.getCount();
+    }
+
+    HttpHeaders headers = response.getHeaders();
+    headers.setContentType(MediaType.parseMediaType("multipart/byteranges; boundary=" + boundary));
+    headers.setContentLength(contentLength);
+    if (isHead(request)) {
+      response.flush();
+      return;
+    }
+    OutputStream body = response.getBody();
+    for (int i = 0; i < regions.size(); i++) {
+      body.write(partHeaders[i]);
+      copy(regions.get(i), body);
+    }
+    body.write(end);
+  }
+
+  private static void writeRegion(ResourceRegion region, HttpServletRequest request,
+      ServletServerHttpResponse response) throws IOException {
+    if (isHead(request) || region.getCount() == 0) {
+      response.flush();
+      return;
+    }
+    File file = fileOf(region.getResource());
+    if (file != null && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))
+        && !response.getServletResponse().isCommitted()) {
+      request.setAttribute(SENDFILE_FILENAME, file.getAbsolutePath());
+      request.setAttribute(SENDFILE_START, region.getPosition());
+      request.setAttribute(SENDFILE_END, region.getPosition() + region.getCount());
+      response.flush();
+      return;
+    }
+    copy(region, response.getBody());
+  }
+
+  private static void writeStream(Resource resource, HttpServletRequest request,
+      ServletServerHttpResponse response) throws IOException {
+    if (isHead(request)) {
+      response.flush();
+      return;
+    }
+    try (InputStream input = resource.getInputStream()) {
+      StreamUtils.copy(input, response.getBody());
+    }
+  }
+
+  private static void copy(ResourceRegion region, OutputStream body) throws IOException {
+    File file = fileOf(region.getResource());
+    if (file == null) {
+      try (InputStream input = region.getResource().getInputStream()) {
+        StreamUtils.copyRange(input, body, region.getPosition(),
+            region.getPosition() + region.getCount() - 1);
+      }
+      return;
+    }
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      WritableByteChannel target = Channels.newChannel(body);
+      long position = region.getPosition();
+      long remaining = region.getCount();
+      while (remaining > 0) {
+        long written = channel.transferTo(position, remaining, target);
+        if (written <= 0) {
+          throw new IOException("Unexpected end of file " + file);
+        }
+        position += written;
+        remaining -= written;
+      }
+    }
+  }
+
+  /**
+   * {@code If-Range} only keeps the range when the validator still matches the resource.
+   */
+  private static boolean rangeStillValid(HttpServletRequest request, String etag,
+      long lastModified) {
+    String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+    if (ifRange == null || ifRange.isBlank()) {
+      return true;
+    }
+    if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+      return etag != null && !ifRange.startsWith("W/") && ifRange.equals(etag);
+    }
+    try {
+      long since = request.getDateHeader(HttpHeaders.IF_RANGE);
+      return lastModified > 0 && lastModified / 1000 == since / 1000;
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  private static String contentRange(ResourceRegion region, long length) {
+    long start = region.getPosition();
+    return "bytes " + start + "-" + (start + region.getCount() - 1) + "/" + length;
+  }
+
+  private static long lastModified(Resource resource) {
+    try {
+      long lastModified = resource.lastModified();
+      return lastModified > 0 ? lastModified : -1;
+    } catch (IOException e) {
+      return -1;
+    }
+  }
+
+  private static File fileOf(Resource resource) {
+    if (!resource.isFile()) {
+      return null;
+    }
+    try {
+      return resource.getFile();
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private static boolean isHead(HttpServletRequest request) {
+    return HttpMethod.HEAD.matches(request.getMethod());
+  }
+}
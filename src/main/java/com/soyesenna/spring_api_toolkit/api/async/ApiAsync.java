@@ -0,0 +1,94 @@
+package com.soyesenna.spring_api_toolkit.api.async;
+
+import com.soyesenna.spring_api_toolkit.api.deadline.RequestDeadline;
+import com.soyesenna.spring_api_toolkit.config.ApiAsyncProperties;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * Runs handler work on a virtual-thread executor so slow I/O does not hold a platform request
+ * thread:
+ * <pre>
+ * &#64;GetMapping("/reports/{id}")
+ * public CompletableFuture&lt;ApiData&lt;Report&gt;&gt; report(&#64;PathVariable Long id) {
+ *   return apiAsync.supply(() -&gt; ApiData.ok(reportClient.fetch(id)));
+ * }
+ * </pre>
+ * The returned future fails with a {@link TimeoutException} after {@code api.async.timeout}, or
+ * earlier when the {@link RequestDeadline} of the request expires; the task is then interrupted.
+ * The deadline is visible to the task through {@link RequestDeadline#current()}. Failures keep
+ * their error contract because {@code GlobalExceptionHandler} unwraps the async wrappers.
+ */
+public class ApiAsync implements DisposableBean {
+
+  private final SimpleAsyncTaskExecutor executor;
+  private final Duration timeout;
+
+  public ApiAsync(ApiAsyncProperties properties) {
+    this.executor = new SimpleAsyncTaskExecutor(properties.getThreadNamePrefix());
+    this.executor.setVirtualThreads(true);
+    this.timeout = properties.getTimeout();
+  }
+
+  /**
+   * Runs the task with the configured timeout.
+   */
+  public <T> CompletableFuture<T> supply(Callable<T> task) {
+    return this.supply(task, this.timeout);
+  }
+
+  /**
+   * Runs the task with the given timeout, shortened to the request deadline if that comes first.
+   * A {@code null} timeout waits for the deadline only.
+   */
+  public <T> CompletableFuture<T> supply(Callable<T> task, Duration timeout) {
+    Duration effectiveTimeout = this.effectiveTimeout(timeout);
+    Callable<T> propagated = RequestDeadline.propagate(task);
+
+    CompletableFuture<T> result = new CompletableFuture<>();
+    Future<?> running = this.executor.submit(() -> {
+      try {
+        result.complete(propagated.call());
+      } catch (Throwable throwable) {
+        result.completeExceptionally(throwable);
+      }
+    });
+    if (effectiveTimeout != null) {
+      result.orTimeout(Math.max(1, effectiveTimeout.toMillis()), TimeUnit.MILLISECONDS);
+    }
+    result.whenComplete((value, throwable) -> {
+      if (throwable != null) {
+        running.cancel(true);
+      }
+    });
+    return result;
+  }
+
+  /**
+   * Returns the virtual-thread executor, also used for MVC {@code Callable} handlers.
+   */
+  public AsyncTaskExecutor getExecutor() {
+    return this.executor;
+  }
+
+  @Override
+  public void destroy() {
+    this.executor.close();
+  }
+
+  private Duration effectiveTimeout(Duration timeout) {
+    RequestDeadline deadline = RequestDeadline.current();
+    if (deadline == null) {
+      return timeout;
+    }
+    Duration remaining = deadline.remaining();
+    return timeout == null || remaining.compareTo(timeout) < 0 ? remaining : timeout;
+  }
+}
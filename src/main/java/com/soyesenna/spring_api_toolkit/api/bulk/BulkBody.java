@@ -0,0 +1,43 @@
+package com.soyesenna.spring_api_toolkit.api.bulk;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds a JSON array request body incrementally instead of materializing a {@code List<T>}.
+ * Supported parameter types are {@code Stream<T>}, {@code Iterator<T>} and {@link BulkItems
+ * BulkItems<T>}:
+ * <pre>
+ * &#64;PostMapping("/items/import")
+ * public ApiData&lt;?&gt; importItems(&#64;BulkBody BulkItems&lt;ItemRequest&gt; items,
+ *     BulkValidationReport report) {
+ *   items.forEachBatch(500, itemService::saveAll);
+ *   return report.hasErrors() ? report.toApiData() : ApiData.ok(report.getProcessedCount());
+ * }
+ * </pre>
+ * Items are read with the Jackson streaming parser while the handler consumes them, validated with
+ * the configured {@code Validator} and skipped when invalid; failures are collected with their
+ * array index into the request's {@link BulkValidationReport}. The items must be consumed before
+ * the handler returns; otherwise the report is marked {@linkplain
+ * BulkValidationReport#isIncomplete() incomplete} and a warning is logged. The body is closed when
+ * the request completes. A malformed array aborts the iteration with
+ * {@code 400 MESSAGE_NOT_READABLE}; items consumed until then stay processed.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface BulkBody {
+
+  /**
+   * Whether each item is validated with the configured {@code Validator}.
+   */
+  boolean validate() default true;
+
+  /**
+   * Validation groups, the default group when empty.
+   */
+  Class<?>[] groups() default {};
+}
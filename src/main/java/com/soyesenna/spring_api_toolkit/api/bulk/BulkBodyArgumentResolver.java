@@ -0,0 +1,91 @@
+package com.soyesenna.spring_api_toolkit.api.bulk;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soyesenna.spring_api_toolkit.config.ApiBulkProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Validator;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Resolves {@link BulkBody} parameters and the request's {@link BulkValidationReport}.
+ */
+public class BulkBodyArgumentResolver implements HandlerMethodArgumentResolver {
+
+  private static final String REPORT_ATTRIBUTE =
+      BulkBodyArgumentResolver.class.getName() + ".REPORT";
+
+  static final String READER_ATTRIBUTE = BulkBodyArgumentResolver.class.getName() + ".READER";
+
+  private final ObjectMapper objectMapper;
+  private final Validator validator;
+  private final ApiBulkProperties properties;
+
+  public BulkBodyArgumentResolver(ObjectMapper objectMapper, Validator validator,
+      ApiBulkProperties properties) {
+    this.objectMapper = objectMapper;
+    this.validator = validator;
+    this.properties = properties;
+  }
+
+  @Override
+  public boolean supportsParameter(MethodParameter parameter) {
+    if (parameter.getParameterType() == BulkValidationReport.class) {
+      return true;
+    }
+    Class<?> type = parameter.getParameterType();
+    return parameter.hasParameterAnnotation(BulkBody.class)
+        && (type == Stream.class || type == Iterator.class || type == BulkItems.class);
+  }
+
+  @Override
+  public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+      NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+    BulkValidationReport report = this.reportOf(webRequest);
+    if (parameter.getParameterType() == BulkValidationReport.class) {
+      return report;
+    }
+
+    BulkBody bulkBody = parameter.getParameterAnnotation(BulkBody.class);
+    HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+    ResolvableType itemType = ResolvableType.forMethodParameter(parameter).getGeneric(0);
+    JavaType javaType = this.objectMapper.constructType(
+        itemType.resolve() == null ? Object.class : itemType.getType());
+    JsonParser parser = this.objectMapper.getFactory().createParser(request.getInputStream());
+
+    BulkItemReader<Object> reader = new BulkItemReader<>(parser,
+        this.objectMapper.readerFor(javaType),
+        bulkBody.validate() ? this.validator : null, bulkBody.groups(), report,
+        new ServletServerHttpRequest(request));
+    request.setAttribute(READER_ATTRIBUTE, reader);
+    BulkItems<Object> items = new BulkItems<>(reader, report);
+    Class<?> type = parameter.getParameterType();
+    if (type == Stream.class) {
+      return items.stream();
+    }
+    if (type == Iterator.class) {
+      return items.iterator();
+    }
+    return items;
+  }
+
+  private BulkValidationReport reportOf(NativeWebRequest webRequest) {
+    if (webRequest.getAttribute(REPORT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+        instanceof BulkValidationReport report) {
+      return report;
+    }
+    BulkValidationReport report = new BulkValidationReport(this.properties.getMaxErrors());
+    webRequest.setAttribute(REPORT_ATTRIBUTE, report, RequestAttributes.SCOPE_REQUEST);
+    return report;
+  }
+}
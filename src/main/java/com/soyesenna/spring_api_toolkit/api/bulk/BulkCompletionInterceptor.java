@@ -0,0 +1,31 @@
+package com.soyesenna.spring_api_toolkit.api.bulk;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Closes the body of a {@link BulkBody} request when it completes, and logs a warning when the
+ * handler returned before reading the whole array.
+ */
+public class BulkCompletionInterceptor implements HandlerInterceptor {
+
+  private static final Logger log = LoggerFactory.getLogger(BulkCompletionInterceptor.class);
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+      Object handler, Exception ex) {
+    if (!(request.getAttribute(BulkBodyArgumentResolver.READER_ATTRIBUTE)
+        instanceof BulkItemReader<?> reader) || request.isAsyncStarted()) {
+      return;
+    }
+    request.removeAttribute(BulkBodyArgumentResolver.READER_ATTRIBUTE);
+    if (ex == null && !reader.isConsumed()) {
+      log.warn("[BULK] {} {} returned after reading {} items; the rest of the array was ignored",
+          request.getMethod(), request.getRequestURI(), reader.getReadCount());
+    }
+    reader.close();
+  }
+}
@@ -0,0 +1,168 @@
+package com.soyesenna.spring_api_toolkit.api.bulk;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+/**
+ * Reads the items of a JSON array one at a time. Each item is first read as a tree, so a
+ * mapping failure only skips that item and leaves the parser on the next one.
+ */
+final class BulkItemReader<T> implements Iterator<T>, Closeable {
+
+  private static final String ITEM_PATH = "$";
+  private static final String UNREADABLE_ITEM = "요청 항목을 읽을 수 없습니다.";
+
+  private final JsonParser parser;
+  private final ObjectReader reader;
+  private final Validator validator;
+  private final Class<?>[] groups;
+  private final BulkValidationReport report;
+  private final HttpInputMessage inputMessage;
+  private long index = -1;
+  private T next;
+  private boolean done;
+  private boolean consumed;
+
+  BulkItemReader(JsonParser parser, ObjectReader reader, Validator validator, Class<?>[] groups,
+      BulkValidationReport report, HttpInputMessage inputMessage) {
+    this.parser = parser;
+    this.reader = reader;
+    this.validator = validator;
+    this.groups = groups;
+    this.report = report;
+    this.inputMessage = inputMessage;
+    report.attach(this);
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (this.next == null && !this.done) {
+      this.next = this.readNext();
+    }
+    return this.next != null;
+  }
+
+  @Override
+  public T next() {
+    if (!this.hasNext()) {
+      throw new NoSuchElementException();
+    }
+    T item = this.next;
+    this.next = null;
+    this.report.recordProcessed();
+    return item;
+  }
+
+  /**
+   * Returns whether the whole array was read.
+   */
+  boolean isConsumed() {
+    return this.consumed;
+  }
+
+  /**
+   * Returns the number of array items read so far, valid or not.
+   */
+  long getReadCount() {
+    return this.index + 1;
+  }
+
+  @Override
+  public void close() {
+    this.done = true;
+    try {
+      this.parser.close();
+    } catch (IOException ignored) {
+      // the container closes the request stream anyway
+    }
+  }
+
+  /**
+   * Returns the next valid item, or {@code null} when the item was skipped or the array ended.
+   */
+  private T readNext() {
+    JsonNode node;
+    try {
+      if (this.index < 0) {
+        JsonToken first = this.parser.nextToken();
+        if (first == null) {
+          this.consumed = true;
+          this.close();
+          return null;
+        }
+        if (first != JsonToken.START_ARRAY) {
+          throw this.notReadable("Bulk request body must be a JSON array", null);
+        }
+      }
+      JsonToken token = this.parser.nextToken();
+      if (token == JsonToken.END_ARRAY || token == null) {
+        this.consumed = true;
+        this.close();
+        return null;
+      }
+      this.index++;
+      node = this.parser.readValueAsTree();
+    } catch (IOException exception) {
+      this.close();
+      throw this.notReadable("Malformed bulk request body at item " + this.index, exception);
+    }
+
+    T item;
+    try {
+      item = this.reader.readValue(node);
+    } catch (IOException exception) {
+      this.report.recordFailure(this.index, Map.of(pathOf(exception), UNREADABLE_ITEM));
+      return null;
+    }
+    if (item == null) {
+      this.report.recordFailure(this.index, Map.of(ITEM_PATH, UNREADABLE_ITEM));
+      return null;
+    }
+    if (this.validator != null) {
+      Set<ConstraintViolation<T>> violations = this.validator.validate(item, this.groups);
+      if (!violations.isEmpty()) {
+        Map<String, String> fieldErrors = new LinkedHashMap<>();
+        for (ConstraintViolation<T> violation : violations) {
+          String path = violation.getPropertyPath().toString();
+          fieldErrors.putIfAbsent(path.isEmpty() ? ITEM_PATH : path, violation.getMessage());
+        }
+        this.report.recordFailure(this.index, fieldErrors);
+        return null;
+      }
+    }
+    return item;
+  }
+
+  private static String pathOf(IOException exception) {
+    if (!(exception instanceof JsonMappingException mapping) || mapping.getPath().isEmpty()) {
+      return ITEM_PATH;
+    }
+    StringBuilder path = new StringBuilder();
+    for (JsonMappingException.Reference reference : mapping.getPath()) {
+      if (reference.getFieldName() != null) {
+        path.append(path.isEmpty() ? "" : ".").append(reference.getFieldName());
+      } else if (reference.getIndex() >= 0) {
+        path.append('[').append(reference.getIndex()).append(']');
+      }
+    }
+    return path.isEmpty() ? ITEM_PATH : path.toString();
+  }
+
+  private HttpMessageNotReadableException notReadable(String message, IOException cause) {
+    return new HttpMessageNotReadableException(message, cause, this.inputMessage);
+  }
+}
@@ -0,0 +1,61 @@
+package com.soyesenna.spring_api_toolkit.api.bulk;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Single-use view over the valid items of a {@link BulkBody} request.
+ */
+public final class BulkItems<T> implements Iterable<T> {
+
+  private final BulkItemReader<T> reader;
+  private final BulkValidationReport report;
+
+  BulkItems(BulkItemReader<T> reader, BulkValidationReport report) {
+    this.reader = reader;
+    this.report = report;
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return this.reader;
+  }
+
+  public Stream<T> stream() {
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(this.reader,
+                Spliterator.ORDERED | Spliterator.NONNULL), false)
+        .onClose(this.reader::close);
+  }
+
+  /**
+   * Hands the items to {@code consumer} in lists of at most {@code batchSize}, so only one batch
+   * is held in memory at a time.
+   */
+  public void forEachBatch(int batchSize, Consumer<? super List<T>> consumer) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("batchSize must be positive");
+    }
+    List<T> batch = new ArrayList<>(batchSize);
+    while (this.reader.hasNext()) {
+      batch.add(this.reader.next());
+      if (batch.size() == batchSize) {
+        consumer.accept(batch);
+        batch = new ArrayList<>(batchSize);
+      }
+    }
+    if (!batch.isEmpty()) {
+      consumer.accept(batch);
+    }
+  }
+
+  public BulkValidationReport getReport() {
+    return this.report;
+  }
+}
@@ -0,0 +1,99 @@
+package com.soyesenna.spring_api_toolkit.api.bulk;
+
+import com.soyesenna.spring_api_toolkit.api.core.ApiData;
+import com.soyesenna.spring_api_toolkit.exception.error.ToolkitErrorCode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-item failures of a {@link BulkBody} request. Only the first {@code api.bulk.max-errors}
+ * failures are kept; the rest are counted. Declare it as a handler argument to read it after
+ * consuming the items.
+ */
+public class BulkValidationReport {
+
+  private final int maxErrors;
+  private final List<ItemError> errors = new ArrayList<>();
+  private long processedCount;
+  private long failedCount;
+  private BulkItemReader<?> reader;
+
+  public BulkValidationReport(int maxErrors) {
+    this.maxErrors = maxErrors;
+  }
+
+  void attach(BulkItemReader<?> reader) {
+    this.reader = reader;
+  }
+
+  void recordProcessed() {
+    this.processedCount++;
+  }
+
+  void recordFailure(long index, Map<String, String> fieldErrors) {
+    this.failedCount++;
+    if (this.errors.size() < this.maxErrors) {
+      this.errors.add(new ItemError(index, Map.copyOf(fieldErrors)));
+    }
+  }
+
+  public boolean hasErrors() {
+    return this.failedCount > 0;
+  }
+
+  /**
+   * Returns the number of valid items handed to the handler.
+   */
+  public long getProcessedCount() {
+    return this.processedCount;
+  }
+
+  /**
+   * Returns the number of skipped items, including those beyond {@code max-errors}.
+   */
+  public long getFailedCount() {
+    return this.failedCount;
+  }
+
+  public List<ItemError> getErrors() {
+    return Collections.unmodifiableList(this.errors);
+  }
+
+  /**
+   * Returns whether failures were dropped because {@code max-errors} was reached.
+   */
+  public boolean isTruncated() {
+    return this.failedCount > this.errors.size();
+  }
+
+  /**
+   * Returns whether the handler returned before the whole array was read. Items after the last
+   * processed one were then neither processed nor validated.
+   */
+  public boolean isIncomplete() {
+    return this.reader != null && !this.reader.isConsumed();
+  }
+
+  /**
+   * Returns the report as a {@code 400 VALIDATION_ERROR} response.
+   */
+  public ApiData<BulkValidationReport> toApiData() {
+    ToolkitErrorCode errorCode = ToolkitErrorCode.VALIDATION_ERROR;
+    return ApiData.<BulkValidationReport>builder()
+        .httpStatus(errorCode.getHttpStatus())
+        .success(false)
+        .code(errorCode.resolveCode())
+        .message(errorCode.getMessage())
+        .data(this)
+        .build();
+  }
+
+  /**
+   * Failure of the item at {@code index} (0-based position in the array), by property path.
+   */
+  public record ItemError(long index, Map<String, String> errors) {
+
+  }
+}
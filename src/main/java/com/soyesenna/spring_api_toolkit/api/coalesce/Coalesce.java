@@ -0,0 +1,41 @@
+package com.soyesenna.spring_api_toolkit.api.coalesce;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Coalesces identical concurrent {@code GET} requests to a handler method into one execution.
+ * <p>
+ * The first request for a key runs the handler; identical requests arriving while it is in flight
+ * wait up to {@link #maxWaitMillis()} and receive the same {@code ApiData} response (status,
+ * headers and body, including mapped {@code CoreException} errors) with a
+ * {@code Coalesced: true} header. Of the headers the leader set directly on the servlet response,
+ * only the caching headers ({@code Cache-Control}, {@code ETag}, {@code Last-Modified},
+ * {@code Expires} and {@code Vary}) are shared; per-exchange headers such as CORS, cookies or
+ * request ids are not. Nothing is kept after the execution completes, so responses are never
+ * stale. Followers whose wait expires, that exceed {@code api.coalesce.max-followers}, or whose
+ * leader failed or produced no JSON {@code ApiData}, run the handler themselves.
+ * <p>
+ * Requests are identical when their {@link CoalesceKeyResolver} key matches: by default the path,
+ * the sorted query parameters and the {@code api.coalesce.vary-headers}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Coalesce {
+
+  /**
+   * How long a follower waits for the in-flight execution. Negative values fall back to
+   * {@code api.coalesce.max-wait}.
+   */
+  long maxWaitMillis() default -1;
+
+  /**
+   * Request headers that distinguish otherwise identical requests, in addition to
+   * {@code api.coalesce.vary-headers}.
+   */
+  String[] varyHeaders() default {};
+}
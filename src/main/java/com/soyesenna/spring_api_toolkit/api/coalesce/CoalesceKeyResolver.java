@@ -0,0 +1,17 @@
+package com.soyesenna.spring_api_toolkit.api.coalesce;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * Resolves the key under which concurrent requests to a {@link Coalesce} handler share one
+ * execution. Declare a bean to replace {@link DefaultCoalesceKeyResolver}.
+ */
+@FunctionalInterface
+public interface CoalesceKeyResolver {
+
+  /**
+   * Returns the key of the request, or {@code null} to run it without coalescing.
+   */
+  String resolve(HttpServletRequest request, HandlerMethod handlerMethod, Coalesce coalesce);
+}
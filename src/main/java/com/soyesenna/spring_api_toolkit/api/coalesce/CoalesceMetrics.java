@@ -0,0 +1,36 @@
+package com.soyesenna.spring_api_toolkit.api.coalesce;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes {@code api.coalesce.coalesced}, the number of requests answered with another
+ * request's response, {@code api.coalesce.in-flight}, the number of keys being executed, and
+ * {@code api.coalesce.waiting}, the number of followers holding a thread while they wait.
+ */
+public class CoalesceMetrics implements MeterBinder {
+
+  private final CoalescingInterceptor coalescingInterceptor;
+
+  public CoalesceMetrics(CoalescingInterceptor coalescingInterceptor) {
+    this.coalescingInterceptor = coalescingInterceptor;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("api.coalesce.coalesced", this.coalescingInterceptor,
+            CoalescingInterceptor::getCoalescedCount)
+        .description("Requests answered with the response of an identical in-flight request")
+        .register(registry);
+    Gauge.builder("api.coalesce.in-flight", this.coalescingInterceptor,
+            CoalescingInterceptor::getInFlightCount)
+        .description("Coalescing keys with an execution in flight")
+        .register(registry);
+    Gauge.builder("api.coalesce.waiting", this.coalescingInterceptor,
+            CoalescingInterceptor::getWaitingCount)
+        .description("Followers waiting for an in-flight execution")
+        .register(registry);
+  }
+}
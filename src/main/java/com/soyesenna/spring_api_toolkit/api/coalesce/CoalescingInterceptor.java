@@ -0,0 +1,172 @@
+package com.soyesenna.spring_api_toolkit.api.coalesce;
+
+import com.soyesenna.spring_api_toolkit.api.replay.ApiDataReplayer;
+import com.soyesenna.spring_api_toolkit.api.replay.CapturedResponse;
+import com.soyesenna.spring_api_toolkit.config.ApiCoalesceProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Applies {@link Coalesce} to handler methods. Only in-flight executions are tracked: the leader
+ * removes its key before publishing the captured response to the waiting followers.
+ * <p>
+ * Followers hold their servlet thread while they wait, so at most
+ * {@code api.coalesce.max-followers} requests wait at a time; the others run the handler
+ * themselves. Besides the {@code ApiData} headers, only the caching headers the leader set on the
+ * servlet response are shared with the followers; headers such as
+ * {@code Access-Control-Allow-Origin}, {@code Set-Cookie} or request ids belong to the leader's
+ * exchange and are set by each follower's own filters.
+ */
+public class CoalescingInterceptor implements HandlerInterceptor {
+
+  public static final String COALESCED_HEADER = "Coalesced";
+
+  private static final String FLIGHT_ATTRIBUTE =
+      CoalescingInterceptor.class.getName() + ".FLIGHT";
+
+  private static final List<String> SHARED_HEADERS = List.of(
+      HttpHeaders.CACHE_CONTROL, HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED, HttpHeaders.EXPIRES,
+      HttpHeaders.VARY);
+
+  private final ConcurrentMap<String, Flight> inFlight = new ConcurrentHashMap<>();
+  private final CoalesceKeyResolver keyResolver;
+  private final ApiDataReplayer replayer;
+  private final ApiCoalesceProperties properties;
+  private final LongAdder coalesced = new LongAdder();
+  private final AtomicInteger waiting = new AtomicInteger();
+
+  public CoalescingInterceptor(CoalesceKeyResolver keyResolver, ApiDataReplayer replayer,
+      ApiCoalesceProperties properties) {
+    this.keyResolver = keyResolver;
+    this.replayer = replayer;
+    this.properties = properties;
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+      Object handler) throws IOException {
+    if (!(handler instanceof HandlerMethod handlerMethod)
+        || !HttpMethod.GET.matches(request.getMethod())
+        || request.getAttribute(FLIGHT_ATTRIBUTE) != null) {
+      return true;
+    }
+    Coalesce coalesce = handlerMethod.getMethodAnnotation(Coalesce.class);
+    if (coalesce == null) {
+      return true;
+    }
+    String key = this.keyResolver.resolve(request, handlerMethod, coalesce);
+    if (key == null) {
+      return true;
+    }
+
+    Flight flight = new Flight(key);
+    Flight leader = this.inFlight.putIfAbsent(key, flight);
+    if (leader == null) {
+      request.setAttribute(FLIGHT_ATTRIBUTE, flight);
+      return true;
+    }
+
+    if (this.waiting.incrementAndGet() > this.properties.getMaxFollowers()) {
+      this.waiting.decrementAndGet();
+      return true;
+    }
+    CapturedResponse shared;
+    try {
+      shared = this.await(leader, coalesce);
+    } finally {
+      this.waiting.decrementAndGet();
+    }
+    if (shared == null) {
+      return true;
+    }
+    this.coalesced.increment();
+    this.replayer.replay(shared, response, COALESCED_HEADER);
+    return false;
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+      Object handler, Exception ex) {
+    if (!(request.getAttribute(FLIGHT_ATTRIBUTE) instanceof Flight flight)
+        || request.isAsyncStarted()) {
+      return;
+    }
+    this.inFlight.remove(flight.key, flight);
+    CapturedResponse captured = ex == null ? this.replayer.capture(request) : null;
+    flight.result.complete(captured == null ? null : this.withLeaderHeaders(captured, response));
+  }
+
+  /**
+   * Returns the number of requests answered with another request's response.
+   */
+  public long getCoalescedCount() {
+    return this.coalesced.sum();
+  }
+
+  /**
+   * Returns the number of keys with an execution in flight.
+   */
+  public int getInFlightCount() {
+    return this.inFlight.size();
+  }
+
+  /**
+   * Returns the number of followers waiting for an in-flight execution.
+   */
+  public int getWaitingCount() {
+    return this.waiting.get();
+  }
+
+  private CapturedResponse withLeaderHeaders(CapturedResponse captured,
+      HttpServletResponse response) {
+    Map<String, List<String>> headers = new LinkedCaseInsensitiveMap<>();
+    headers.putAll(captured.headers());
+    for (String name : SHARED_HEADERS) {
+      if (!headers.containsKey(name) && response.containsHeader(name)) {
+        headers.put(name, List.copyOf(response.getHeaders(name)));
+      }
+    }
+    return new CapturedResponse(captured.status(), headers, captured.body());
+  }
+
+  private CapturedResponse await(Flight leader, Coalesce coalesce) {
+    Duration maxWait = coalesce.maxWaitMillis() < 0
+        ? this.properties.getMaxWait()
+        : Duration.ofMillis(coalesce.maxWaitMillis());
+    try {
+      return leader.result.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      return null;
+    } catch (ExecutionException | TimeoutException exception) {
+      return null;
+    }
+  }
+
+  private static final class Flight {
+
+    private final String key;
+    private final CompletableFuture<CapturedResponse> result = new CompletableFuture<>();
+
+    private Flight(String key) {
+      this.key = key;
+    }
+  }
+}
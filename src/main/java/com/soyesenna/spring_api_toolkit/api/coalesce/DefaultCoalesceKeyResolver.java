@@ -0,0 +1,50 @@
+package com.soyesenna.spring_api_toolkit.api.coalesce;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * Keys requests by method, URI, query parameters in sorted order and the vary headers, so
+ * {@code ?size=20&page=1} and {@code ?page=1&size=20} coalesce.
+ */
+public class DefaultCoalesceKeyResolver implements CoalesceKeyResolver {
+
+  private final List<String> varyHeaders;
+
+  public DefaultCoalesceKeyResolver(List<String> varyHeaders) {
+    this.varyHeaders = List.copyOf(varyHeaders);
+  }
+
+  @Override
+  public String resolve(HttpServletRequest request, HandlerMethod handlerMethod,
+      Coalesce coalesce) {
+    StringBuilder key = new StringBuilder(128)
+        .append(request.getMethod()).append(' ').append(request.getRequestURI());
+    Map<String, String[]> parameters = request.getParameterMap();
+    if (!parameters.isEmpty()) {
+      char separator = '?';
+      for (Map.Entry<String, String[]> parameter : new TreeMap<>(parameters).entrySet()) {
+        for (String value : parameter.getValue()) {
+          key.append(separator).append(parameter.getKey()).append('=').append(value);
+          separator = '&';
+        }
+      }
+    }
+    this.appendHeaders(key, request, this.varyHeaders);
+    this.appendHeaders(key, request, List.of(coalesce.varyHeaders()));
+    return key.toString();
+  }
+
+  private void appendHeaders(StringBuilder key, HttpServletRequest request,
+      List<String> headerNames) {
+    for (String headerName : headerNames) {
+      String value = request.getHeader(headerName);
+      if (value != null) {
+        key.append('\n').append(headerName).append(": ").append(value);
+      }
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package com.soyesenna.spring_api_toolkit.api.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Additive-increase/multiplicative-decrease concurrency limit of one endpoint (as in Netflix
+ * concurrency-limits' {@code AIMDLimit}). Each completed request that was dropped (an exception the
+ * application did not map to an error) or slower than the timeout multiplies the limit by the
+ * backoff ratio; each other request completed while at least half of the limit was in use adds
+ * one.
+ */
+public final class AimdLimiter {
+
+  private final String name;
+  private final int minLimit;
+  private final int maxLimit;
+  private final double backoffRatio;
+  private final long timeoutNanos;
+
+  private final AtomicLong limitBits;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final LongAdder rejected = new LongAdder();
+
+  AimdLimiter(String name, int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+      long timeoutNanos) {
+    this.name = name;
+    this.minLimit = minLimit;
+    this.maxLimit = Math.max(minLimit, maxLimit);
+    this.backoffRatio = backoffRatio;
+    this.timeoutNanos = timeoutNanos;
+    int initial = Math.min(Math.max(initialLimit, minLimit), this.maxLimit);
+    this.limitBits = new AtomicLong(Double.doubleToRawLongBits(initial));
+  }
+
+  boolean tryAcquire() {
+    int limit = this.getLimit();
+    while (true) {
+      int current = this.inFlight.get();
+      if (current >= limit) {
+        this.rejected.increment();
+        return false;
+      }
+      if (this.inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Frees the slot of a request that never reached the handler, without adjusting the limit.
+   */
+  void release() {
+    this.inFlight.decrementAndGet();
+  }
+
+  void release(long rttNanos, boolean dropped) {
+    int inFlightAtCompletion = this.inFlight.getAndDecrement();
+    boolean backoff = dropped || rttNanos > this.timeoutNanos;
+
+    while (true) {
+      long bits = this.limitBits.get();
+      double current = Double.longBitsToDouble(bits);
+      double next;
+      if (backoff) {
+        next = Math.max(this.minLimit, current * this.backoffRatio);
+      } else if (inFlightAtCompletion * 2 >= current) {
+        next = Math.min(this.maxLimit, current + 1);
+      } else {
+        return;
+      }
+      if (next == current
+          || this.limitBits.compareAndSet(bits, Double.doubleToRawLongBits(next))) {
+        return;
+      }
+    }
+  }
+
+  public String getName() {
+    return this.name;
+  }
+
+  public int getLimit() {
+    return (int) Double.longBitsToDouble(this.limitBits.get());
+  }
+
+  public int getInFlight() {
+    return this.inFlight.get();
+  }
+
+  public long getRejected() {
+    return this.rejected.sum();
+  }
+}
@@ -0,0 +1,28 @@
+package com.soyesenna.spring_api_toolkit.api.concurrency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Puts an adaptive (AIMD) concurrency limit in front of a handler method, or every handler method
+ * of a controller. Requests above the current limit are rejected immediately with
+ * {@code api.concurrency.rejection-code} (503 {@code SERVER_OVERLOADED} by default).
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ConcurrencyLimit {
+
+  /**
+   * Starting limit. Values below 1 fall back to {@code api.concurrency.initial-limit}.
+   */
+  int initialLimit() default -1;
+
+  /**
+   * Upper bound of the limit. Values below 1 fall back to {@code api.concurrency.max-limit}.
+   */
+  int maxLimit() default -1;
+}
@@ -0,0 +1,107 @@
+package com.soyesenna.spring_api_toolkit.api.concurrency;
+
+import com.soyesenna.spring_api_toolkit.api.warmup.WarmupMarker;
+import com.soyesenna.spring_api_toolkit.exception.CoreException;
+import com.soyesenna.spring_api_toolkit.exception.error.BaseErrorCode;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.BindException;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * Admits requests to {@link ConcurrencyLimit} handlers while their limiter has capacity and rejects
+ * the rest with a {@code CoreException} rendered through the usual {@code ApiData.error} envelope.
+ * <p>
+ * Registered with {@link #ORDER}, after the deadline check and the application's interceptors,
+ * so that requests rejected or answered by an earlier interceptor never take a slot. Warm-up
+ * requests bypass the limit and do not adjust it.
+ */
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+  public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 100;
+
+  private static final String LIMITER_ATTRIBUTE =
+      ConcurrencyLimitInterceptor.class.getName() + ".LIMITER";
+  private static final String START_ATTRIBUTE =
+      ConcurrencyLimitInterceptor.class.getName() + ".START";
+  private static final String HANDLED_ATTRIBUTE =
+      ConcurrencyLimitInterceptor.class.getName() + ".HANDLED";
+
+  private final ConcurrencyLimiterRegistry registry;
+  private final BaseErrorCode rejectionCode;
+
+  public ConcurrencyLimitInterceptor(ConcurrencyLimiterRegistry registry,
+      BaseErrorCode rejectionCode) {
+    this.registry = registry;
+    this.rejectionCode = rejectionCode;
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+      Object handler) {
+    if (!(handler instanceof HandlerMethod handlerMethod)
+        || request.getAttribute(LIMITER_ATTRIBUTE) != null
+        || WarmupMarker.isWarmup(request)) {
+      return true;
+    }
+    AimdLimiter limiter = this.registry.limiterOf(handlerMethod);
+    if (limiter == null) {
+      return true;
+    }
+    if (!limiter.tryAcquire()) {
+      throw this.rejectionCode.throwWithoutStackTrace();
+    }
+    request.setAttribute(LIMITER_ATTRIBUTE, limiter);
+    request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+    return true;
+  }
+
+  @Override
+  public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+      ModelAndView modelAndView) {
+    request.setAttribute(HANDLED_ATTRIBUTE, Boolean.TRUE);
+  }
+
+  /**
+   * Releases the slot. The limit only learns from requests that reached the handler: the latency
+   * is always a sample, and the request counts as dropped when it failed with an exception the
+   * application does not map to an error. Status codes are not used, so deliberate 5xx answers
+   * ({@code CoreException}, deadline and overload rejections) do not shrink the limit.
+   */
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+      Object handler, Exception ex) {
+    if (!(request.getAttribute(LIMITER_ATTRIBUTE) instanceof AimdLimiter limiter)
+        || !(request.getAttribute(START_ATTRIBUTE) instanceof Long start)) {
+      return;
+    }
+    request.removeAttribute(LIMITER_ATTRIBUTE);
+    Throwable failure = ex != null
+        ? ex
+        : (Throwable) request.getAttribute(DispatcherServlet.EXCEPTION_ATTRIBUTE);
+    if (failure == null && request.getAttribute(HANDLED_ATTRIBUTE) == null) {
+      limiter.release();
+      return;
+    }
+    limiter.release(System.nanoTime() - start, failure != null && isUnexpected(failure));
+  }
+
+  private static boolean isUnexpected(Throwable failure) {
+    Throwable cause = failure;
+    while ((cause instanceof CompletionException || cause instanceof ExecutionException
+        || cause instanceof UndeclaredThrowableException) && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    return !(cause instanceof CoreException || cause instanceof ErrorResponse
+        || cause instanceof BindException || cause instanceof HttpMessageNotReadableException);
+  }
+}
@@ -0,0 +1,39 @@
+package com.soyesenna.spring_api_toolkit.api.concurrency;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes {@code api.concurrency.limit}, {@code api.concurrency.in-flight} and
+ * {@code api.concurrency.rejected} per limited handler.
+ */
+public class ConcurrencyLimitMetrics implements MeterBinder {
+
+  private final ConcurrencyLimiterRegistry limiterRegistry;
+
+  public ConcurrencyLimitMetrics(ConcurrencyLimiterRegistry limiterRegistry) {
+    this.limiterRegistry = limiterRegistry;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    this.limiterRegistry.onLimiter(limiter -> this.register(registry, limiter));
+  }
+
+  private void register(MeterRegistry registry, AimdLimiter limiter) {
+    Gauge.builder("api.concurrency.limit", limiter, AimdLimiter::getLimit)
+        .tag("handler", limiter.getName())
+        .description("Current adaptive concurrency limit")
+        .register(registry);
+    Gauge.builder("api.concurrency.in-flight", limiter, AimdLimiter::getInFlight)
+        .tag("handler", limiter.getName())
+        .description("Requests currently admitted")
+        .register(registry);
+    FunctionCounter.builder("api.concurrency.rejected", limiter, AimdLimiter::getRejected)
+        .tag("handler", limiter.getName())
+        .description("Requests rejected by the concurrency limit")
+        .register(registry);
+  }
+}
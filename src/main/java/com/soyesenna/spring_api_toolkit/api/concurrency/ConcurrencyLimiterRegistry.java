@@ -0,0 +1,76 @@
+package com.soyesenna.spring_api_toolkit.api.concurrency;
+
+import com.soyesenna.spring_api_toolkit.config.ApiConcurrencyProperties;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * Holds one {@link AimdLimiter} per handler method annotated with {@link ConcurrencyLimit}.
+ */
+public class ConcurrencyLimiterRegistry {
+
+  private static final AimdLimiter UNLIMITED = new AimdLimiter("", 1, 1, 1, 1, 0);
+
+  private final ApiConcurrencyProperties properties;
+  private final ConcurrentMap<Method, AimdLimiter> limiters = new ConcurrentHashMap<>();
+  private final List<Consumer<AimdLimiter>> listeners = new CopyOnWriteArrayList<>();
+
+  public ConcurrencyLimiterRegistry(ApiConcurrencyProperties properties) {
+    this.properties = properties;
+  }
+
+  /**
+   * Returns the limiters created so far.
+   */
+  public Collection<AimdLimiter> getLimiters() {
+    return this.limiters.values().stream().filter(limiter -> limiter != UNLIMITED).toList();
+  }
+
+  /**
+   * Registers a callback invoked for every limiter, including those created later.
+   */
+  public void onLimiter(Consumer<AimdLimiter> listener) {
+    this.listeners.add(listener);
+    this.getLimiters().forEach(listener);
+  }
+
+  AimdLimiter limiterOf(HandlerMethod handlerMethod) {
+    Method method = handlerMethod.getMethod();
+    AimdLimiter limiter = this.limiters.get(method);
+    if (limiter == null) {
+      limiter = this.limiters.computeIfAbsent(method, key -> this.createLimiter(handlerMethod));
+    }
+    return limiter == UNLIMITED ? null : limiter;
+  }
+
+  private AimdLimiter createLimiter(HandlerMethod handlerMethod) {
+    ConcurrencyLimit annotation = handlerMethod.getMethodAnnotation(ConcurrencyLimit.class);
+    if (annotation == null) {
+      annotation = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(),
+          ConcurrencyLimit.class);
+    }
+    if (annotation == null) {
+      return UNLIMITED;
+    }
+
+    int initialLimit = annotation.initialLimit() > 0
+        ? annotation.initialLimit()
+        : this.properties.getInitialLimit();
+    int maxLimit = annotation.maxLimit() > 0
+        ? annotation.maxLimit()
+        : this.properties.getMaxLimit();
+    String name = handlerMethod.getBeanType().getSimpleName() + "#"
+        + handlerMethod.getMethod().getName();
+    AimdLimiter limiter = new AimdLimiter(name, initialLimit, this.properties.getMinLimit(),
+        maxLimit, this.properties.getBackoffRatio(), this.properties.getTimeout().toNanos());
+    this.listeners.forEach(listener -> listener.accept(limiter));
+    return limiter;
+  }
+}
@@ -2,16 +2,22 @@ package com.soyesenna.spring_api_toolkit.api.core;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.Errors;
 import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
 
 @JsonSerialize
 public class ApiData<T> {
@@ -92,6 +98,32 @@ public class ApiData<T> {
         .build();
   }
 
+  /**
+   * File response written by {@code ApiDataAdvice} without buffering, with {@code Range},
+   * {@code Content-Length} and {@code Last-Modified} support. The content type is derived from
+   * the file name.
+   */
+  public static ApiData<Resource> file(Path path) {
+    return ApiData.resource(new FileSystemResource(path));
+  }
+
+  public static ApiData<Resource> file(Path path, MediaType contentType) {
+    return ApiData.resource(new FileSystemResource(path), contentType);
+  }
+
+  /**
+   * Resource response written like {@link #file(Path)}. The content type is derived from the
+   * resource file name, falling back to {@code application/octet-stream}.
+   */
+  public static ApiData<Resource> resource(Resource resource) {
+    return ApiData.resource(resource, MediaTypeFactory.getMediaType(resource)
+        .orElse(MediaType.APPLICATION_OCTET_STREAM));
+  }
+
+  public static ApiData<Resource> resource(Resource resource, MediaType contentType) {
+    return ApiData.ok(resource, contentType);
+  }
+
   public static ApiData<Void> noContent() {
     return ApiData.<Void>builder()
         .httpStatus(HttpStatus.NO_CONTENT)
@@ -132,6 +164,19 @@ public class ApiData<T> {
         .build();
   }
 
+  /**
+   * Validation errors keyed by field, plus object-level errors such as class-level constraints
+   * keyed by object name.
+   */
+  public static ApiData<Map<String, String>> validationErrors(HttpStatus httpStatus,
+      Errors errors) {
+    ApiData<Map<String, String>> apiData = validationErrors(httpStatus, errors.getFieldErrors());
+    for (ObjectError globalError : errors.getGlobalErrors()) {
+      apiData.getData().putIfAbsent(globalError.getObjectName(), globalError.getDefaultMessage());
+    }
+    return apiData;
+  }
+
   public HttpStatus getHttpStatus() {
     return httpStatus;
   }
@@ -0,0 +1,28 @@
+package com.soyesenna.spring_api_toolkit.api.deadline;
+
+import java.util.concurrent.Callable;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+/**
+ * Makes the {@link RequestDeadline} of the request available through
+ * {@link RequestDeadline#current()} while a {@link Callable} handler result runs on the MVC async
+ * executor.
+ */
+public class DeadlineCallableInterceptor implements CallableProcessingInterceptor {
+
+  @Override
+  public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+    if (request.getAttribute(DeadlineInterceptor.DEADLINE_ATTRIBUTE,
+        RequestAttributes.SCOPE_REQUEST) instanceof RequestDeadline deadline) {
+      RequestDeadline.set(deadline);
+    }
+  }
+
+  @Override
+  public <T> void postProcess(NativeWebRequest request, Callable<T> task,
+      Object concurrentResult) {
+    RequestDeadline.clear();
+  }
+}
@@ -0,0 +1,117 @@
+package com.soyesenna.spring_api_toolkit.api.deadline;
+
+import com.soyesenna.spring_api_toolkit.config.ApiDeadlineProperties;
+import com.soyesenna.spring_api_toolkit.exception.error.ToolkitErrorCode;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.Ordered;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Parses the request timeout header into a {@link RequestDeadline} and rejects requests whose
+ * deadline has already passed with {@code 504 DEADLINE_EXCEEDED} before the handler runs. The
+ * budget starts when {@link DeadlineStartFilter} saw the request, so time spent in filters is
+ * charged as well.
+ * <p>
+ * The header holds the remaining budget, either in milliseconds ({@code 1500}) or as a duration
+ * ({@code 1500ms}, {@code 2s}). Values above {@code api.deadline.max-timeout} are clamped to it;
+ * invalid, negative or out-of-range values are ignored.
+ * <p>
+ * Registered with {@link #ORDER}, before the application's interceptors and the concurrency
+ * limiter, so expired requests are rejected before they take any resources.
+ */
+public class DeadlineInterceptor implements AsyncHandlerInterceptor {
+
+  public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 100;
+
+  private static final Logger log = LoggerFactory.getLogger(DeadlineInterceptor.class);
+
+  static final String DEADLINE_ATTRIBUTE =
+      DeadlineInterceptor.class.getName() + ".DEADLINE";
+
+  private final ApiDeadlineProperties properties;
+  private final LongAdder rejected = new LongAdder();
+
+  public DeadlineInterceptor(ApiDeadlineProperties properties) {
+    this.properties = properties;
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+      Object handler) {
+    if (request.getAttribute(DEADLINE_ATTRIBUTE) instanceof RequestDeadline deadline) {
+      RequestDeadline.set(deadline);
+      return true;
+    }
+
+    Duration timeout = this.resolveTimeout(request.getHeader(this.properties.getHeader()));
+    if (timeout == null) {
+      return true;
+    }
+    long start = request.getAttribute(DeadlineStartFilter.START_ATTRIBUTE) instanceof Long arrived
+        ? arrived
+        : System.nanoTime();
+    RequestDeadline deadline = RequestDeadline.after(start, timeout);
+    if (deadline.isExpired()) {
+      this.rejected.increment();
+      throw ToolkitErrorCode.DEADLINE_EXCEEDED.throwWithoutStackTrace();
+    }
+    request.setAttribute(DEADLINE_ATTRIBUTE, deadline);
+    RequestDeadline.set(deadline);
+    return true;
+  }
+
+  @Override
+  public void afterConcurrentHandlingStarted(HttpServletRequest request,
+      HttpServletResponse response, Object handler) {
+    RequestDeadline.clear();
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+      Object handler, Exception ex) {
+    RequestDeadline.clear();
+  }
+
+  /**
+   * Returns the number of requests rejected because their deadline had passed.
+   */
+  public long getRejectedCount() {
+    return this.rejected.sum();
+  }
+
+  private Duration resolveTimeout(String headerValue) {
+    Duration timeout = this.properties.getDefaultTimeout();
+    if (StringUtils.hasText(headerValue)) {
+      Duration requested = this.parseHeader(headerValue);
+      if (requested != null) {
+        timeout = requested;
+      }
+    }
+    Duration maxTimeout = this.properties.getMaxTimeout();
+    if (timeout != null && maxTimeout != null && timeout.compareTo(maxTimeout) > 0) {
+      return maxTimeout;
+    }
+    return timeout;
+  }
+
+  private Duration parseHeader(String headerValue) {
+    try {
+      Duration requested = DurationStyle.detectAndParse(headerValue.trim());
+      if (!requested.isNegative()) {
+        return requested;
+      }
+    } catch (IllegalArgumentException | ArithmeticException exception) {
+      // logged below
+    }
+    log.debug("[DEADLINE] Ignoring invalid {} header: {}", this.properties.getHeader(),
+        headerValue);
+    return null;
+  }
+}
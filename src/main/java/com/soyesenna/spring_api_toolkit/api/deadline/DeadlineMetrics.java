@@ -0,0 +1,26 @@
+package com.soyesenna.spring_api_toolkit.api.deadline;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes {@code api.deadline.rejected}, the number of requests rejected because their deadline
+ * had already passed.
+ */
+public class DeadlineMetrics implements MeterBinder {
+
+  private final DeadlineInterceptor deadlineInterceptor;
+
+  public DeadlineMetrics(DeadlineInterceptor deadlineInterceptor) {
+    this.deadlineInterceptor = deadlineInterceptor;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("api.deadline.rejected", this.deadlineInterceptor,
+            DeadlineInterceptor::getRejectedCount)
+        .description("Requests rejected because their deadline had passed")
+        .register(registry);
+  }
+}
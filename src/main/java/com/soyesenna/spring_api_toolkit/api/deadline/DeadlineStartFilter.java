@@ -0,0 +1,27 @@
+package com.soyesenna.spring_api_toolkit.api.deadline;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Records when the request entered the filter chain, so that {@link DeadlineInterceptor} charges
+ * the time spent in filters and waiting for a handler against the caller's budget. Registered
+ * first in the chain; time spent in the container's accept queue before it is not visible here.
+ */
+public class DeadlineStartFilter extends OncePerRequestFilter {
+
+  static final String START_ATTRIBUTE = DeadlineStartFilter.class.getName() + ".START";
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    if (request.getAttribute(START_ATTRIBUTE) == null) {
+      request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+    }
+    filterChain.doFilter(request, response);
+  }
+}
@@ -0,0 +1,130 @@
+package com.soyesenna.spring_api_toolkit.api.deadline;
+
+import jakarta.persistence.Query;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Point in time after which the caller of the current request no longer waits for the response.
+ * <p>
+ * Set by {@link DeadlineInterceptor} from the {@code api.deadline.header} request header and
+ * available to application code through {@link #current()}:
+ * <pre>
+ * RequestDeadline deadline = RequestDeadline.current();
+ * if (deadline != null) {
+ *   client.call(request, deadline.remaining());
+ * }
+ * </pre>
+ * Queries are bounded automatically only through {@code PagingRequest.applyTo(TypedQuery)}.
+ * Spring Data repository methods called with {@code PagingRequest.toPageable()} do not see the
+ * deadline; apply {@link #queryTimeoutHints()} or {@link #applyTo(Query)} to such queries
+ * yourself, e.g. in a custom repository fragment.
+ */
+public final class RequestDeadline {
+
+  /**
+   * JPA hint for the query timeout in milliseconds.
+   */
+  public static final String QUERY_TIMEOUT_HINT = "jakarta.persistence.query.timeout";
+
+  private static final Duration MAX_TIMEOUT = Duration.ofNanos(Long.MAX_VALUE);
+
+  private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+  private final long deadlineNanos;
+
+  private RequestDeadline(long deadlineNanos) {
+    this.deadlineNanos = deadlineNanos;
+  }
+
+  public static RequestDeadline after(Duration timeout) {
+    return RequestDeadline.after(System.nanoTime(), timeout);
+  }
+
+  /**
+   * Returns the deadline {@code timeout} after {@code startNanos}, a {@link System#nanoTime()}
+   * value such as the moment the request arrived. Negative timeouts are treated as zero and
+   * timeouts beyond the {@code nanoTime} range (about 292 years) as that range.
+   */
+  public static RequestDeadline after(long startNanos, Duration timeout) {
+    long timeoutNanos;
+    if (timeout.isNegative()) {
+      timeoutNanos = 0;
+    } else if (timeout.compareTo(MAX_TIMEOUT) >= 0) {
+      timeoutNanos = Long.MAX_VALUE;
+    } else {
+      timeoutNanos = timeout.toNanos();
+    }
+    return new RequestDeadline(startNanos + timeoutNanos);
+  }
+
+  /**
+   * Returns the deadline of the current request, or {@code null} if it has none.
+   */
+  public static RequestDeadline current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * Returns a task that runs with the current request's deadline, for hand-off to another thread.
+   * Returns the task itself when the current request has no deadline.
+   */
+  public static <T> Callable<T> propagate(Callable<T> task) {
+    RequestDeadline deadline = CURRENT.get();
+    if (deadline == null) {
+      return task;
+    }
+    return () -> {
+      RequestDeadline previous = CURRENT.get();
+      CURRENT.set(deadline);
+      try {
+        return task.call();
+      } finally {
+        if (previous == null) {
+          CURRENT.remove();
+        } else {
+          CURRENT.set(previous);
+        }
+      }
+    };
+  }
+
+  static void set(RequestDeadline deadline) {
+    CURRENT.set(deadline);
+  }
+
+  static void clear() {
+    CURRENT.remove();
+  }
+
+  public boolean isExpired() {
+    return this.remainingNanos() <= 0;
+  }
+
+  /**
+   * Returns the time left, never negative.
+   */
+  public Duration remaining() {
+    return Duration.ofNanos(Math.max(0, this.remainingNanos()));
+  }
+
+  /**
+   * Returns the JPA hints that bound a query by the time left (at least 1ms).
+   */
+  public Map<String, Object> queryTimeoutHints() {
+    return Map.of(QUERY_TIMEOUT_HINT, Math.max(1, this.remaining().toMillis()));
+  }
+
+  /**
+   * Bounds the query by the time left.
+   */
+  public <Q extends Query> Q applyTo(Q query) {
+    this.queryTimeoutHints().forEach(query::setHint);
+    return query;
+  }
+
+  private long remainingNanos() {
+    return this.deadlineNanos - System.nanoTime();
+  }
+}
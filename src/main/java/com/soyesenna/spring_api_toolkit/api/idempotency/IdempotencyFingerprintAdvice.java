@@ -0,0 +1,71 @@
+package com.soyesenna.spring_api_toolkit.api.idempotency;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+/**
+ * Records the SHA-256 fingerprint of the {@code @RequestBody} of an {@link Idempotent} request
+ * whose key was reserved, so that a retry with the same key but a different body is rejected
+ * instead of receiving the first result. The body is buffered once for hashing and handed to the
+ * message converter from memory.
+ */
+@ControllerAdvice
+public class IdempotencyFingerprintAdvice extends RequestBodyAdviceAdapter {
+
+  @Override
+  public boolean supports(MethodParameter methodParameter, Type targetType,
+      Class<? extends HttpMessageConverter<?>> converterType) {
+    return methodParameter.hasMethodAnnotation(Idempotent.class);
+  }
+
+  @Override
+  public HttpInputMessage beforeBodyRead(HttpInputMessage inputMessage, MethodParameter parameter,
+      Type targetType, Class<? extends HttpMessageConverter<?>> converterType)
+      throws IOException {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+      return inputMessage;
+    }
+    HttpServletRequest request = servletAttributes.getRequest();
+    if (request.getAttribute(IdempotencyInterceptor.KEY_ATTRIBUTE) == null) {
+      return inputMessage;
+    }
+    byte[] body = StreamUtils.copyToByteArray(inputMessage.getBody());
+    request.setAttribute(IdempotencyInterceptor.FINGERPRINT_ATTRIBUTE, fingerprint(body));
+    return new HttpInputMessage() {
+      @Override
+      public InputStream getBody() {
+        return new ByteArrayInputStream(body);
+      }
+
+      @Override
+      public HttpHeaders getHeaders() {
+        return inputMessage.getHeaders();
+      }
+    };
+  }
+
+  static String fingerprint(byte[] body) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+    } catch (NoSuchAlgorithmException exception) {
+      throw new IllegalStateException("SHA-256 is not available", exception);
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package com.soyesenna.spring_api_toolkit.api.idempotency;
+
+import com.soyesenna.spring_api_toolkit.api.replay.ApiDataReplayer;
+import com.soyesenna.spring_api_toolkit.api.replay.CapturedResponse;
+import com.soyesenna.spring_api_toolkit.config.ApiIdempotencyProperties;
+import com.soyesenna.spring_api_toolkit.exception.error.ToolkitErrorCode;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import java.io.IOException;
+import java.security.Principal;
+import java.time.Duration;
+import org.springframework.util.StringUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * Applies {@link Idempotent} to handler methods using an {@link IdempotencyStore}.
+ */
+public class IdempotencyInterceptor implements HandlerInterceptor {
+
+  public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+  static final String KEY_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".KEY";
+  static final String FINGERPRINT_ATTRIBUTE =
+      IdempotencyInterceptor.class.getName() + ".FINGERPRINT";
+
+  private static final String TTL_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".TTL";
+  private static final String HANDLED_ATTRIBUTE =
+      IdempotencyInterceptor.class.getName() + ".HANDLED";
+
+  private final IdempotencyStore store;
+  private final ApiDataReplayer replayer;
+  private final ApiIdempotencyProperties properties;
+
+  public IdempotencyInterceptor(IdempotencyStore store, ApiDataReplayer replayer,
+      ApiIdempotencyProperties properties) {
+    this.store = store;
+    this.replayer = replayer;
+    this.properties = properties;
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+      Object handler) throws IOException {
+    if (!(handler instanceof HandlerMethod handlerMethod)
+        || request.getAttribute(KEY_ATTRIBUTE) != null) {
+      return true;
+    }
+    Idempotent idempotent = handlerMethod.getMethodAnnotation(Idempotent.class);
+    if (idempotent == null) {
+      return true;
+    }
+
+    String idempotencyKey = request.getHeader(this.properties.getHeader());
+    if (!StringUtils.hasText(idempotencyKey)) {
+      if (idempotent.required()) {
+        throw ToolkitErrorCode.IDEMPOTENCY_KEY_MISSING.throwWithoutStackTrace();
+      }
+      return true;
+    }
+
+    String scope = this.resolveScope(request);
+    if (scope == null) {
+      throw ToolkitErrorCode.IDEMPOTENCY_UNSCOPED.throwWithoutStackTrace();
+    }
+    String key = request.getMethod() + " " + request.getRequestURI() + " " + scope + " "
+        + idempotencyKey;
+    if (this.store.reserve(key, this.properties.getLockTimeout())) {
+      request.setAttribute(KEY_ATTRIBUTE, key);
+      request.setAttribute(TTL_ATTRIBUTE, idempotent.ttlSeconds() < 0
+          ? this.properties.getTtl()
+          : Duration.ofSeconds(idempotent.ttlSeconds()));
+      return true;
+    }
+
+    IdempotentResponse stored = this.awaitStored(key, idempotent);
+    if (stored == null) {
+      throw ToolkitErrorCode.IDEMPOTENCY_CONFLICT.throwWithoutStackTrace();
+    }
+    if (stored.fingerprint() != null && !stored.fingerprint().equals(
+        IdempotencyFingerprintAdvice.fingerprint(request.getInputStream().readAllBytes()))) {
+      throw ToolkitErrorCode.IDEMPOTENCY_KEY_REUSED.throwWithoutStackTrace();
+    }
+    this.replayer.replay(stored.response(), response, REPLAYED_HEADER);
+    return false;
+  }
+
+  @Override
+  public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+      ModelAndView modelAndView) {
+    request.setAttribute(HANDLED_ATTRIBUTE, Boolean.TRUE);
+  }
+
+  /**
+   * Stores the response when the handler returned normally and the status is below 500. Requests
+   * rejected before the handler (e.g. by the concurrency limit or another interceptor), failed
+   * with an exception, or answered with a 5xx release the key, so the request can be retried.
+   */
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+      Object handler, Exception ex) {
+    if (!(request.getAttribute(KEY_ATTRIBUTE) instanceof String key)
+        || request.isAsyncStarted()) {
+      return;
+    }
+    boolean handled = ex == null && request.getAttribute(HANDLED_ATTRIBUTE) != null;
+    CapturedResponse captured = handled ? this.replayer.capture(request) : null;
+    if (captured != null && captured.status() < 500) {
+      String fingerprint = (String) request.getAttribute(FINGERPRINT_ATTRIBUTE);
+      this.store.complete(key, new IdempotentResponse(captured, fingerprint),
+          (Duration) request.getAttribute(TTL_ATTRIBUTE));
+    } else {
+      this.store.release(key);
+    }
+  }
+
+  /**
+   * Returns the namespace of the caller's keys, or {@code null} when the configured scope cannot
+   * be resolved for this request.
+   */
+  private String resolveScope(HttpServletRequest request) {
+    IdempotencyScope scope = this.properties.getScope();
+    if (scope == IdempotencyScope.NONE) {
+      return "*";
+    }
+    if (scope == IdempotencyScope.PRINCIPAL) {
+      Principal principal = request.getUserPrincipal();
+      if (principal != null && StringUtils.hasText(principal.getName())) {
+        return "principal:" + principal.getName();
+      }
+    }
+    HttpSession session = request.getSession(false);
+    return session == null ? null : "session:" + session.getId();
+  }
+
+  private IdempotentResponse awaitStored(String key, Idempotent idempotent) {
+    IdempotentResponse stored = this.store.find(key);
+    Duration wait = idempotent.waitMillis() < 0
+        ? this.properties.getWait()
+        : Duration.ofMillis(idempotent.waitMillis());
+    if (stored != null || wait.isZero() || wait.isNegative()) {
+      return stored;
+    }
+    try {
+      return this.store.await(key, wait);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      return null;
+    }
+  }
+}
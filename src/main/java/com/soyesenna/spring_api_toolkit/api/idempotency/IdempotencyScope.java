@@ -0,0 +1,26 @@
+package com.soyesenna.spring_api_toolkit.api.idempotency;
+
+/**
+ * Whose requests share an idempotency key namespace. Without a scope, two callers that send the
+ * same key would receive each other's stored response.
+ */
+public enum IdempotencyScope {
+
+  /**
+   * Keys are scoped by {@code HttpServletRequest#getUserPrincipal()}, falling back to the HTTP
+   * session. Requests with neither are rejected with {@code 400 IDEMPOTENCY_UNSCOPED}.
+   */
+  PRINCIPAL,
+
+  /**
+   * Keys are scoped by the HTTP session. Requests without a session are rejected with
+   * {@code 400 IDEMPOTENCY_UNSCOPED}.
+   */
+  SESSION,
+
+  /**
+   * Keys are shared by all callers. Only use this when keys cannot collide between callers, e.g.
+   * when a gateway already namespaces them.
+   */
+  NONE
+}
@@ -0,0 +1,50 @@
+package com.soyesenna.spring_api_toolkit.api.idempotency;
+
+import java.time.Duration;
+
+/**
+ * Storage for idempotency keys and their responses. Register a bean of this type to replace the
+ * default {@link InMemoryIdempotencyStore}, e.g. with a store shared between instances.
+ */
+public interface IdempotencyStore {
+
+  /**
+   * Reserves the key for the caller.
+   *
+   * @param key         idempotency key
+   * @param lockTimeout how long the reservation is held if it is never completed or released
+   * @return {@code true} if the caller should execute the request
+   */
+  boolean reserve(String key, Duration lockTimeout);
+
+  /**
+   * Returns the stored response, or {@code null} if the key is unknown or still in flight.
+   */
+  IdempotentResponse find(String key);
+
+  /**
+   * Stores the response of a reserved key.
+   */
+  void complete(String key, IdempotentResponse response, Duration ttl);
+
+  /**
+   * Drops the reservation of a key whose request failed, so that it can be retried.
+   */
+  void release(String key);
+
+  /**
+   * Waits until the response of an in-flight key is stored. The default implementation polls
+   * {@link #find(String)}.
+   *
+   * @return the stored response, or {@code null} if none was stored within the timeout
+   */
+  default IdempotentResponse await(String key, Duration timeout) throws InterruptedException {
+    long deadline = System.nanoTime() + timeout.toNanos();
+    IdempotentResponse response = this.find(key);
+    while (response == null && System.nanoTime() < deadline) {
+      Thread.sleep(20);
+      response = this.find(key);
+    }
+    return response;
+  }
+}
@@ -0,0 +1,44 @@
+package com.soyesenna.spring_api_toolkit.api.idempotency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Makes a handler method idempotent per {@code Idempotency-Key} header.
+ * <p>
+ * The first request with a key runs the handler. Concurrent duplicates wait up to
+ * {@link #waitMillis()} for its result and otherwise receive {@code 409 IDEMPOTENCY_CONFLICT}.
+ * Later duplicates within the TTL receive the stored {@code ApiData} response (status, headers and
+ * body) with an {@code Idempotent-Replayed: true} header. Only responses the handler returned
+ * are stored: 5xx responses, exceptions and rejections before the handler ran (such as a
+ * {@code ConcurrencyLimit} rejection) are not, so the request can be retried.
+ * <p>
+ * Keys are scoped per caller ({@code api.idempotency.scope}), and a duplicate whose
+ * {@code @RequestBody} differs from the first request receives
+ * {@code 422 IDEMPOTENCY_KEY_REUSED} instead of the stored response.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Idempotent {
+
+  /**
+   * Whether requests without the header are rejected with {@code 400 IDEMPOTENCY_KEY_MISSING}.
+   * When false they are executed without idempotency protection.
+   */
+  boolean required() default true;
+
+  /**
+   * How long a response is replayed. Negative values fall back to {@code api.idempotency.ttl}.
+   */
+  long ttlSeconds() default -1;
+
+  /**
+   * How long a concurrent duplicate waits for the first request. Negative values fall back to
+   * {@code api.idempotency.wait}.
+   */
+  long waitMillis() default -1;
+}
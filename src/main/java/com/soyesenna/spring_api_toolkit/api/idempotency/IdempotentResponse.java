@@ -0,0 +1,14 @@
+package com.soyesenna.spring_api_toolkit.api.idempotency;
+
+import com.soyesenna.spring_api_toolkit.api.replay.CapturedResponse;
+
+/**
+ * Response stored for an idempotency key, together with the fingerprint of the request body that
+ * produced it.
+ *
+ * @param response    captured response
+ * @param fingerprint SHA-256 of the request body, or {@code null} when the handler did not read one
+ */
+public record IdempotentResponse(CapturedResponse response, String fingerprint) {
+
+}
@@ -0,0 +1,101 @@
+package com.soyesenna.spring_api_toolkit.api.idempotency;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Bounded in-memory {@link IdempotencyStore}. When more than {@code maxEntries} keys are held, the
+ * oldest key is evicted.
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+  private final Map<String, Entry> entries;
+
+  public InMemoryIdempotencyStore(int maxEntries) {
+    this.entries = new LinkedHashMap<>(16, 0.75f, false) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        return this.size() > maxEntries;
+      }
+    };
+  }
+
+  @Override
+  public synchronized boolean reserve(String key, Duration lockTimeout) {
+    Entry entry = this.entries.get(key);
+    if (entry != null && !entry.isExpired()) {
+      return false;
+    }
+    this.entries.put(key, new Entry(lockTimeout));
+    return true;
+  }
+
+  @Override
+  public IdempotentResponse find(String key) {
+    Entry entry = this.entryOf(key);
+    return entry == null ? null : entry.result.getNow(null);
+  }
+
+  @Override
+  public synchronized void complete(String key, IdempotentResponse response, Duration ttl) {
+    Entry entry = this.entries.get(key);
+    if (entry == null) {
+      entry = new Entry(ttl);
+      this.entries.put(key, entry);
+    }
+    entry.expiresAt = System.nanoTime() + ttl.toNanos();
+    entry.result.complete(response);
+  }
+
+  @Override
+  public void release(String key) {
+    Entry entry;
+    synchronized (this) {
+      entry = this.entries.remove(key);
+    }
+    if (entry != null) {
+      entry.result.complete(null);
+    }
+  }
+
+  @Override
+  public IdempotentResponse await(String key, Duration timeout) throws InterruptedException {
+    Entry entry = this.entryOf(key);
+    if (entry == null) {
+      return null;
+    }
+    try {
+      return entry.result.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (ExecutionException | TimeoutException exception) {
+      return null;
+    }
+  }
+
+  private synchronized Entry entryOf(String key) {
+    Entry entry = this.entries.get(key);
+    if (entry != null && entry.isExpired()) {
+      this.entries.remove(key);
+      return null;
+    }
+    return entry;
+  }
+
+  private static final class Entry {
+
+    private final CompletableFuture<IdempotentResponse> result = new CompletableFuture<>();
+    private volatile long expiresAt;
+
+    private Entry(Duration timeToLive) {
+      this.expiresAt = System.nanoTime() + timeToLive.toNanos();
+    }
+
+    private boolean isExpired() {
+      return System.nanoTime() - this.expiresAt > 0;
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package com.soyesenna.spring_api_toolkit.api.pagination;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * Read-only list that maps the elements of the source list at most once each. Used by
+ * {@link PagingResponse} so that page content is not copied into an intermediate list before it
+ * is mapped. Mapped elements are kept, so reading the content again does not call the mapper again.
+ */
+final class MappedContent<E, T> extends AbstractList<T> implements RandomAccess {
+
+  private static final Object UNMAPPED = new Object();
+
+  private final List<E> source;
+  private final Function<? super E, ? extends T> mapper;
+  private final Object[] mapped;
+
+  private MappedContent(List<E> source, Function<? super E, ? extends T> mapper) {
+    this.source = source;
+    this.mapper = mapper;
+    this.mapped = new Object[source.size()];
+    Arrays.fill(this.mapped, UNMAPPED);
+  }
+
+  /**
+   * Maps every element now, e.g. inside the handler method and its transaction.
+   */
+  static <E, T> MappedContent<E, T> eager(List<E> source,
+      Function<? super E, ? extends T> mapper) {
+    MappedContent<E, T> content = new MappedContent<>(source, mapper);
+    for (int i = 0; i < content.size(); i++) {
+      content.get(i);
+    }
+    return content;
+  }
+
+  /**
+   * Maps each element on its first read, normally while the response is serialized.
+   */
+  static <E, T> MappedContent<E, T> lazy(List<E> source,
+      Function<? super E, ? extends T> mapper) {
+    return new MappedContent<>(source, mapper);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T get(int index) {
+    Object value = this.mapped[index];
+    if (value == UNMAPPED) {
+      value = this.mapper.apply(this.source.get(index));
+      this.mapped[index] = value;
+    }
+    return (T) value;
+  }
+
+  @Override
+  public int size() {
+    return this.mapped.length;
+  }
+}
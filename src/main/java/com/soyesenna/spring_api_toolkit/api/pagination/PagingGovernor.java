@@ -0,0 +1,147 @@
+package com.soyesenna.spring_api_toolkit.api.pagination;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * Resolves the {@link PagingLimits} of every handler method that binds a {@link PagingRequest} and,
+ * when adaptive sizing is enabled, lowers or raises the effective maximum size of each endpoint
+ * based on its measured latency and response size.
+ */
+public class PagingGovernor {
+
+  private static final Logger log = LoggerFactory.getLogger(PagingGovernor.class);
+
+  private static final Endpoint NOT_PAGED = new Endpoint(null, new PagingLimits(0, 0), false);
+
+  private final PagingProperties properties;
+  private final ConcurrentMap<Method, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+  public PagingGovernor(PagingProperties properties) {
+    this.properties = properties;
+  }
+
+  Endpoint endpointOf(HandlerMethod handlerMethod) {
+    Method method = handlerMethod.getMethod();
+    Endpoint endpoint = this.endpoints.get(method);
+    if (endpoint == null) {
+      endpoint = this.endpoints.computeIfAbsent(method, key -> this.createEndpoint(handlerMethod));
+    }
+    return endpoint == NOT_PAGED ? null : endpoint;
+  }
+
+  void record(Endpoint endpoint, long elapsedNanos, long bytes) {
+    endpoint.latencyNanos.add(elapsedNanos);
+    if (bytes > 0) {
+      endpoint.bytes.add(bytes);
+    }
+    endpoint.samples.increment();
+
+    long now = System.nanoTime();
+    long windowStart = endpoint.windowStart.get();
+    PagingProperties.Adaptive adaptive = this.properties.getAdaptive();
+    if (now - windowStart < adaptive.getWindow().toNanos()
+        || !endpoint.windowStart.compareAndSet(windowStart, now)) {
+      return;
+    }
+
+    long samples = endpoint.samples.sumThenReset();
+    long totalLatency = endpoint.latencyNanos.sumThenReset();
+    long totalBytes = endpoint.bytes.sumThenReset();
+    if (samples > 0) {
+      this.adjust(endpoint, totalLatency / samples, totalBytes / samples, adaptive);
+    }
+  }
+
+  private void adjust(Endpoint endpoint, long avgLatencyNanos, long avgBytes,
+      PagingProperties.Adaptive adaptive) {
+    long latencyBudget = adaptive.getLatencyBudget().toNanos();
+    long bytesBudget = adaptive.getBytesBudget().toBytes();
+    int current = endpoint.limits.maxSize();
+    int configured = endpoint.configuredMaxSize;
+
+    int next = current;
+    if (avgLatencyNanos > latencyBudget || avgBytes > bytesBudget) {
+      next = Math.max(Math.min(adaptive.getMinSize(), configured), current / 2);
+    } else if (current < configured
+        && avgLatencyNanos < latencyBudget / 2 && avgBytes < bytesBudget / 2) {
+      next = Math.min(configured, current + Math.max(1, configured / 10));
+    }
+
+    if (next != current) {
+      endpoint.limits = new PagingLimits(next, endpoint.limits.maxOffset());
+      log.info("[PAGING] {} max page size {} -> {} (avg latency: {}ms, avg bytes: {})",
+          endpoint.name, current, next, avgLatencyNanos / 1_000_000, avgBytes);
+    }
+  }
+
+  private Endpoint createEndpoint(HandlerMethod handlerMethod) {
+    if (!this.bindsPagingRequest(handlerMethod)) {
+      return NOT_PAGED;
+    }
+    PagingLimits global = PagingRequest.globalLimits();
+    PagingLimit annotation = handlerMethod.getMethodAnnotation(PagingLimit.class);
+    if (annotation == null) {
+      annotation = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(),
+          PagingLimit.class);
+    }
+
+    int maxSize = global.maxSize();
+    long maxOffset = global.maxOffset();
+    boolean adaptive = this.properties.getAdaptive().isEnabled();
+    if (annotation != null) {
+      maxSize = annotation.maxSize() > 0 ? annotation.maxSize() : maxSize;
+      maxOffset = annotation.maxOffset() >= 0 ? annotation.maxOffset() : maxOffset;
+      adaptive = adaptive && annotation.adaptive();
+    }
+
+    String name = handlerMethod.getBeanType().getSimpleName() + "#"
+        + handlerMethod.getMethod().getName();
+    return new Endpoint(name, new PagingLimits(maxSize, maxOffset), adaptive);
+  }
+
+  private boolean bindsPagingRequest(HandlerMethod handlerMethod) {
+    for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+      if (parameter.getParameterType() == PagingRequest.class) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  static final class Endpoint {
+
+    private final String name;
+    private final int configuredMaxSize;
+    private final boolean adaptive;
+    private volatile PagingLimits limits;
+
+    private final LongAdder latencyNanos = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder samples = new LongAdder();
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+
+    private Endpoint(String name, PagingLimits limits, boolean adaptive) {
+      this.name = name;
+      this.configuredMaxSize = limits.maxSize();
+      this.adaptive = adaptive;
+      this.limits = limits;
+    }
+
+    PagingLimits limits() {
+      return this.limits;
+    }
+
+    boolean isAdaptive() {
+      return this.adaptive;
+    }
+  }
+}
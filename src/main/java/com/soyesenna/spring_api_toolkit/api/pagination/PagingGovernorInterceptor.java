@@ -0,0 +1,64 @@
+package com.soyesenna.spring_api_toolkit.api.pagination;
+
+import com.soyesenna.spring_api_toolkit.api.support.ResponseSizeFilter;
+import com.soyesenna.spring_api_toolkit.api.warmup.WarmupMarker;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Exposes the endpoint limits resolved by {@link PagingGovernor} to {@link PagingRequest} binding
+ * and feeds adaptive sizing with the handler latency and response size. Warm-up requests are
+ * not fed.
+ */
+public class PagingGovernorInterceptor implements AsyncHandlerInterceptor {
+
+  private static final String START_ATTRIBUTE =
+      PagingGovernorInterceptor.class.getName() + ".START";
+  private static final String ENDPOINT_ATTRIBUTE =
+      PagingGovernorInterceptor.class.getName() + ".ENDPOINT";
+
+  private final PagingGovernor governor;
+
+  public PagingGovernorInterceptor(PagingGovernor governor) {
+    this.governor = governor;
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+      Object handler) {
+    if (!(handler instanceof HandlerMethod handlerMethod)) {
+      return true;
+    }
+    PagingGovernor.Endpoint endpoint = this.governor.endpointOf(handlerMethod);
+    if (endpoint == null) {
+      return true;
+    }
+
+    PagingLimitContext.set(endpoint.limits());
+    if (endpoint.isAdaptive() && !WarmupMarker.isWarmup(request)) {
+      request.setAttribute(ENDPOINT_ATTRIBUTE, endpoint);
+      request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+    }
+    return true;
+  }
+
+  @Override
+  public void afterConcurrentHandlingStarted(HttpServletRequest request,
+      HttpServletResponse response, Object handler) {
+    PagingLimitContext.clear();
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+      Object handler, Exception ex) {
+    PagingLimitContext.clear();
+
+    if (request.getAttribute(ENDPOINT_ATTRIBUTE) instanceof PagingGovernor.Endpoint endpoint
+        && request.getAttribute(START_ATTRIBUTE) instanceof Long start) {
+      long elapsed = System.nanoTime() - start;
+      this.governor.record(endpoint, elapsed, ResponseSizeFilter.bytesWritten(request));
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package com.soyesenna.spring_api_toolkit.api.pagination;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Overrides the global {@link PagingProperties} limits for the {@link PagingRequest} bound by a
+ * handler method (or every handler method of a controller).
+ *
+ * <pre>
+ * &#64;PagingLimit(maxSize = 5000, maxOffset = 100_000)
+ * &#64;GetMapping("/export")
+ * public ApiData&lt;PagingResponse&lt;OrderDto&gt;&gt; export(PagingRequest pagingRequest) { ... }
+ * </pre>
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface PagingLimit {
+
+  /**
+   * Maximum page size. Values below 1 fall back to {@code api.page.max-size}.
+   */
+  int maxSize() default -1;
+
+  /**
+   * Maximum offset ({@code (page - 1) * size}); pages beyond it are rejected with
+   * {@code 400 PAGE_OUT_OF_RANGE}. 0 disables the limit, negative values fall back to
+   * {@code api.page.max-offset}.
+   */
+  long maxOffset() default -1;
+
+  /**
+   * Whether the endpoint takes part in adaptive sizing when {@code api.page.adaptive.enabled} is
+   * set.
+   */
+  boolean adaptive() default true;
+}
@@ -0,0 +1,26 @@
+package com.soyesenna.spring_api_toolkit.api.pagination;
+
+/**
+ * Holds the endpoint-specific {@link PagingLimits} while the current request binds its
+ * {@link PagingRequest}. Populated by {@link PagingGovernorInterceptor}.
+ */
+final class PagingLimitContext {
+
+  private static final ThreadLocal<PagingLimits> CURRENT = new ThreadLocal<>();
+
+  private PagingLimitContext() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  static PagingLimits current() {
+    return CURRENT.get();
+  }
+
+  static void set(PagingLimits limits) {
+    CURRENT.set(limits);
+  }
+
+  static void clear() {
+    CURRENT.remove();
+  }
+}
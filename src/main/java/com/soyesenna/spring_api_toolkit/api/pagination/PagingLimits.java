@@ -0,0 +1,25 @@
+package com.soyesenna.spring_api_toolkit.api.pagination;
+
+import com.soyesenna.spring_api_toolkit.exception.error.ToolkitErrorCode;
+
+/**
+ * Effective limits applied to a {@link PagingRequest}.
+ *
+ * @param maxSize   maximum page size
+ * @param maxOffset maximum offset, 0 when unlimited
+ */
+record PagingLimits(int maxSize, long maxOffset) {
+
+  int applySize(int size) {
+    return Math.min(size, this.maxSize);
+  }
+
+  /**
+   * Rejects a page whose offset exceeds {@code maxOffset} with {@code 400 PAGE_OUT_OF_RANGE}.
+   */
+  void checkPage(int page, int size) {
+    if (this.maxOffset > 0 && (long) (page - 1) * size > this.maxOffset) {
+      throw ToolkitErrorCode.PAGE_OUT_OF_RANGE.throwWithoutStackTrace();
+    }
+  }
+}
@@ -1,8 +1,10 @@
 package com.soyesenna.spring_api_toolkit.api.pagination;
 
 import jakarta.annotation.PostConstruct;
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Configuration properties for pagination defaults.
@@ -11,7 +13,14 @@ import org.springframework.stereotype.Component;
  * <pre>
  * api.page.default-page=1
  * api.page.default-size=20
+ * api.page.max-size=1000
+ * api.page.max-offset=0
+ * api.page.adaptive.enabled=false
+ * api.page.adaptive.latency-budget=300ms
+ * api.page.adaptive.bytes-budget=1MB
  * </pre>
+ * <p>
+ * Per-endpoint limits can be declared with {@link PagingLimit}.
  */
 @Component
 @ConfigurationProperties(prefix = "api.page")
@@ -20,6 +29,19 @@ public class PagingProperties {
   private int defaultPage = 1;
   private int defaultSize = 20;
 
+  /**
+   * Maximum page size a client may request. Larger sizes are reduced to this value.
+   */
+  private int maxSize = 1000;
+
+  /**
+   * Maximum offset ({@code (page - 1) * size}) a client may request. Pages beyond it are rejected
+   * with {@code 400 PAGE_OUT_OF_RANGE}. 0 disables the limit.
+   */
+  private long maxOffset = 0;
+
+  private final Adaptive adaptive = new Adaptive();
+
   @PostConstruct
   public void init() {
     validateAndSetDefaults();
@@ -32,7 +54,14 @@ public class PagingProperties {
     if (defaultSize < 1) {
       defaultSize = 20;
     }
+    if (maxSize < 1) {
+      maxSize = 1000;
+    }
+    if (maxOffset < 0) {
+      maxOffset = 0;
+    }
     PagingRequest.setDefaultValues(defaultPage, defaultSize);
+    PagingRequest.setGlobalLimits(maxSize, maxOffset);
   }
 
   public int getDefaultPage() {
@@ -50,4 +79,95 @@ public class PagingProperties {
   public void setDefaultSize(int defaultSize) {
     this.defaultSize = defaultSize;
   }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  public void setMaxSize(int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  public long getMaxOffset() {
+    return maxOffset;
+  }
+
+  public void setMaxOffset(long maxOffset) {
+    this.maxOffset = maxOffset;
+  }
+
+  public Adaptive getAdaptive() {
+    return adaptive;
+  }
+
+  /**
+   * Adaptive page sizing. When enabled, the effective maximum size of every paging endpoint is
+   * halved (down to {@code min-size}) whenever its average latency or response size over a
+   * {@code window} exceeds the budget, and raised again in steps once both drop below half of the
+   * budget.
+   */
+  public static class Adaptive {
+
+    private boolean enabled = false;
+
+    /**
+     * Average handler latency allowed per window.
+     */
+    private Duration latencyBudget = Duration.ofMillis(300);
+
+    /**
+     * Average response size allowed per window.
+     */
+    private DataSize bytesBudget = DataSize.ofMegabytes(1);
+
+    /**
+     * Lower bound for the effective maximum size.
+     */
+    private int minSize = 10;
+
+    /**
+     * Interval over which measurements are averaged before the limit is adjusted.
+     */
+    private Duration window = Duration.ofSeconds(5);
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public Duration getLatencyBudget() {
+      return latencyBudget;
+    }
+
+    public void setLatencyBudget(Duration latencyBudget) {
+      this.latencyBudget = latencyBudget;
+    }
+
+    public DataSize getBytesBudget() {
+      return bytesBudget;
+    }
+
+    public void setBytesBudget(DataSize bytesBudget) {
+      this.bytesBudget = bytesBudget;
+    }
+
+    public int getMinSize() {
+      return minSize;
+    }
+
+    public void setMinSize(int minSize) {
+      this.minSize = minSize;
+    }
+
+    public Duration getWindow() {
+      return window;
+    }
+
+    public void setWindow(Duration window) {
+      this.window = window;
+    }
+  }
 }
@@ -1,5 +1,8 @@
 package com.soyesenna.spring_api_toolkit.api.pagination;
 
+import com.soyesenna.spring_api_toolkit.api.deadline.RequestDeadline;
+import com.soyesenna.spring_api_toolkit.exception.error.ToolkitErrorCode;
+import jakarta.persistence.TypedQuery;
 import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -8,6 +11,7 @@ public record PagingRequest(int page, int size, List<SortRequest> sorts) {
 
   private static volatile int DEFAULT_PAGE = 1;
   private static volatile int DEFAULT_SIZE = 20;
+  private static volatile PagingLimits GLOBAL_LIMITS = new PagingLimits(1000, 0);
 
   /**
    * Sets default values for page and size.
@@ -21,12 +25,40 @@ public record PagingRequest(int page, int size, List<SortRequest> sorts) {
     DEFAULT_SIZE = size;
   }
 
+  /**
+   * Sets the global page size and offset limits.
+   * This method is called by {@link PagingProperties} during initialization.
+   *
+   * @param maxSize   maximum page size
+   * @param maxOffset maximum offset, 0 when unlimited
+   */
+  static void setGlobalLimits(int maxSize, long maxOffset) {
+    GLOBAL_LIMITS = new PagingLimits(maxSize, maxOffset);
+  }
+
+  static PagingLimits globalLimits() {
+    return GLOBAL_LIMITS;
+  }
+
   public PagingRequest {
     page = page < 1 ? DEFAULT_PAGE : page;
     size = size < 1 ? DEFAULT_SIZE : size;
+
+    PagingLimits limits = PagingLimitContext.current();
+    if (limits == null) {
+      limits = GLOBAL_LIMITS;
+    }
+    size = limits.applySize(size);
+    limits.checkPage(page, size);
+
     sorts = sorts == null ? List.of() : List.copyOf(sorts);
   }
 
+  /**
+   * Converts the request to a 0-based {@link Pageable}. Repository queries run with it are not
+   * bounded by the request deadline; use {@link #applyTo(TypedQuery)} or
+   * {@code RequestDeadline.queryTimeoutHints()} for that.
+   */
   public Pageable toPageable() {
     Sort sort = sorts.isEmpty()
         ? Sort.unsorted()
@@ -34,4 +66,24 @@ public record PagingRequest(int page, int size, List<SortRequest> sorts) {
 
     return org.springframework.data.domain.PageRequest.of(page - 1, size, sort);
   }
+
+  /**
+   * Applies the page window to a JPA query and, if the current request has a deadline, bounds the
+   * query by the time left. Sorts are not applied and must be part of the query itself. Offsets
+   * beyond {@code Integer.MAX_VALUE} are rejected with {@code 400 PAGE_OUT_OF_RANGE}.
+   */
+  public <T> TypedQuery<T> applyTo(TypedQuery<T> query) {
+    long offset = (long) (page - 1) * size;
+    if (offset > Integer.MAX_VALUE) {
+      throw ToolkitErrorCode.PAGE_OUT_OF_RANGE.throwWithoutStackTrace();
+    }
+    query.setFirstResult((int) offset);
+    query.setMaxResults(size);
+
+    RequestDeadline deadline = RequestDeadline.current();
+    if (deadline != null) {
+      deadline.applyTo(query);
+    }
+    return query;
+  }
 }
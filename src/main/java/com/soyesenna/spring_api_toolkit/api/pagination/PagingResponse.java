@@ -1,6 +1,7 @@
 package com.soyesenna.spring_api_toolkit.api.pagination;
 
 import java.util.List;
+import java.util.function.Function;
 import org.springframework.data.domain.Page;
 
 public record PagingResponse<T>(
@@ -17,11 +18,46 @@ public record PagingResponse<T>(
 ) {
 
   public PagingResponse {
-    content = content == null ? List.of() : List.copyOf(content);
+    content = content == null ? List.of() : PagingResponse.immutableContent(content);
     sort = sort == null ? List.of() : List.copyOf(sort);
   }
 
   public static <T> PagingResponse<T> from(Page<T> page) {
+    return PagingResponse.of(page, page.getContent());
+  }
+
+  /**
+   * Creates a response whose content is the page content mapped with {@code mapper}.
+   * <p>
+   * Every element is mapped exactly once, right away, so the mapper still runs inside the handler
+   * method and its transaction. The page content is mapped straight into the response instead of
+   * being copied into an intermediate list first.
+   *
+   * @param page   page returned by the repository
+   * @param mapper element mapper, e.g. an entity to DTO conversion
+   */
+  public static <E, T> PagingResponse<T> from(Page<E> page,
+      Function<? super E, ? extends T> mapper) {
+    return PagingResponse.of(page, MappedContent.eager(page.getContent(), mapper));
+  }
+
+  /**
+   * Like {@link #from(Page, Function)}, but each element is mapped on its first read, normally
+   * while the response is serialized, so the mapped content is never held in full before writing
+   * starts.
+   * <p>
+   * The mapper runs outside the handler method and its transaction; it must not touch lazily
+   * loaded associations. Each element is still mapped only once.
+   *
+   * @param page   page returned by the repository
+   * @param mapper element mapper that only reads already loaded state
+   */
+  public static <E, T> PagingResponse<T> lazy(Page<E> page,
+      Function<? super E, ? extends T> mapper) {
+    return PagingResponse.of(page, MappedContent.lazy(page.getContent(), mapper));
+  }
+
+  private static <T> PagingResponse<T> of(Page<?> page, List<T> content) {
     List<SortRequest> sortRequests = page.getSort().isUnsorted()
         ? List.of()
         : page.getSort().stream()
@@ -29,7 +65,7 @@ public record PagingResponse<T>(
             .toList();
 
     return new PagingResponse<>(
-        page.getContent(),
+        content,
         page.getNumber() + 1,
         page.getSize(),
         page.getTotalElements(),
@@ -41,4 +77,16 @@ public record PagingResponse<T>(
         sortRequests
     );
   }
+
+  /**
+   * Lists created by {@link #from(Page, Function)} and {@link #lazy} are read-only and
+   * {@link List#copyOf} already returns lists created by {@code List.of}/{@code List.copyOf} as-is;
+   * anything else is copied.
+   */
+  private static <T> List<T> immutableContent(List<T> content) {
+    if (content instanceof MappedContent<?, ?>) {
+      return content;
+    }
+    return List.copyOf(content);
+  }
 }
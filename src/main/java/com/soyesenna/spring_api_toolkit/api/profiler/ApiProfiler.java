@@ -0,0 +1,117 @@
+package com.soyesenna.spring_api_toolkit.api.profiler;
+
+import com.soyesenna.spring_api_toolkit.config.ApiProfilerProperties;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * Keeps one {@link EndpointRecorder} per handler method and rolls all of them over at a fixed
+ * interval, keeping the resulting {@link EndpointProfile}s for the actuator endpoint and the log
+ * summary.
+ */
+public class ApiProfiler implements InitializingBean, DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(ApiProfiler.class);
+
+  private static final String UNMAPPED = "<unmapped>";
+
+  private final ApiProfilerProperties properties;
+  private final ConcurrentMap<Object, EndpointRecorder> recorders = new ConcurrentHashMap<>();
+  private volatile List<EndpointProfile> profiles = List.of();
+  private ScheduledExecutorService scheduler;
+
+  public ApiProfiler(ApiProfilerProperties properties) {
+    this.properties = properties;
+  }
+
+  public void record(Object handler, long elapsedNanos, long bytes, boolean error) {
+    if (!(handler instanceof HandlerMethod) && !this.properties.isRecordUnmapped()) {
+      return;
+    }
+    Object key = handler instanceof HandlerMethod handlerMethod
+        ? handlerMethod.getMethod()
+        : UNMAPPED;
+    EndpointRecorder recorder = this.recorders.get(key);
+    if (recorder == null) {
+      recorder = this.recorders.computeIfAbsent(key,
+          ignored -> new EndpointRecorder(nameOf(handler)));
+    }
+    recorder.record(elapsedNanos, bytes, error);
+  }
+
+  /**
+   * Returns the profiles of the last completed interval, busiest handler first.
+   */
+  public List<EndpointProfile> getProfiles() {
+    return this.profiles;
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    long intervalMillis = this.properties.getInterval().toMillis();
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "api-profiler");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.scheduler.scheduleAtFixedRate(this::rollInterval, intervalMillis, intervalMillis,
+        TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void destroy() {
+    if (this.scheduler != null) {
+      this.scheduler.shutdownNow();
+    }
+  }
+
+  void rollInterval() {
+    try {
+      List<EndpointProfile> rolled = new ArrayList<>(this.recorders.size());
+      for (EndpointRecorder recorder : this.recorders.values()) {
+        rolled.add(recorder.swap());
+      }
+      rolled.sort(Comparator.comparingLong(EndpointProfile::requests).reversed());
+      this.profiles = List.copyOf(rolled);
+
+      if (this.properties.isLogSummary()) {
+        this.logSummary(this.profiles);
+      }
+    } catch (RuntimeException exception) {
+      log.warn("[PROFILER] Failed to roll profiling interval", exception);
+    }
+  }
+
+  private void logSummary(List<EndpointProfile> profiles) {
+    int limit = Math.min(this.properties.getLogTop(), profiles.size());
+    for (int i = 0; i < limit; i++) {
+      EndpointProfile profile = profiles.get(i);
+      if (profile.requests() == 0) {
+        break;
+      }
+      log.info("[PROFILER] {} requests={} errors={} p50={}us p99={}us p999={}us max={}us "
+              + "avgBytes={}",
+          profile.handler(), profile.requests(), profile.errors(), profile.p50Micros(),
+          profile.p99Micros(), profile.p999Micros(), profile.maxMicros(), profile.avgBytes());
+    }
+  }
+
+  private static String nameOf(Object handler) {
+    if (handler instanceof HandlerMethod handlerMethod) {
+      return handlerMethod.getBeanType().getSimpleName() + "#"
+          + handlerMethod.getMethod().getName();
+    }
+    return UNMAPPED;
+  }
+}
@@ -0,0 +1,23 @@
+package com.soyesenna.spring_api_toolkit.api.profiler;
+
+import java.util.List;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Actuator endpoint ({@code /actuator/apiprofile}) exposing the last profiling interval.
+ */
+@Endpoint(id = "apiprofile")
+public class ApiProfilerEndpoint {
+
+  private final ApiProfiler profiler;
+
+  public ApiProfilerEndpoint(ApiProfiler profiler) {
+    this.profiler = profiler;
+  }
+
+  @ReadOperation
+  public List<EndpointProfile> profiles() {
+    return this.profiler.getProfiles();
+  }
+}
@@ -0,0 +1,119 @@
+package com.soyesenna.spring_api_toolkit.api.profiler;
+
+import com.soyesenna.spring_api_toolkit.api.advice.ApiDataAdvice;
+import com.soyesenna.spring_api_toolkit.api.core.ApiData;
+import com.soyesenna.spring_api_toolkit.api.support.CountingResponseWrapper;
+import com.soyesenna.spring_api_toolkit.api.warmup.WarmupMarker;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Measures every request and hands latency, response size and the {@link ApiData} outcome to the
+ * {@link ApiProfiler}, keyed by the handler method that served it.
+ */
+public class ApiProfilerFilter extends OncePerRequestFilter {
+
+  private static final String WRAPPER_ATTRIBUTE = ApiProfilerFilter.class.getName() + ".WRAPPER";
+
+  private final ApiProfiler profiler;
+
+  public ApiProfilerFilter(ApiProfiler profiler) {
+    this.profiler = profiler;
+  }
+
+  /**
+   * Warm-up requests are not profiled.
+   */
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return WarmupMarker.isWarmup(request);
+  }
+
+  /**
+   * Async dispatches write through the wrapper captured by {@code startAsync}, so its writer has
+   * to be flushed after them as well.
+   */
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    if (request.getAttribute(WRAPPER_ATTRIBUTE) instanceof CountingResponseWrapper existing) {
+      try {
+        filterChain.doFilter(request, response);
+      } finally {
+        existing.flushWriter();
+      }
+      return;
+    }
+    long start = System.nanoTime();
+    CountingResponseWrapper wrapper = new CountingResponseWrapper(response);
+    request.setAttribute(WRAPPER_ATTRIBUTE, wrapper);
+    boolean failed = true;
+    try {
+      filterChain.doFilter(request, wrapper);
+      failed = false;
+    } finally {
+      wrapper.flushWriter();
+      if (!failed && request.isAsyncStarted()) {
+        request.getAsyncContext().addListener(new CompletionListener(start, wrapper));
+      } else {
+        this.record(request, wrapper, start, failed);
+      }
+    }
+  }
+
+  private void record(HttpServletRequest request, CountingResponseWrapper response, long start,
+      boolean failed) {
+    long elapsed = System.nanoTime() - start;
+    Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+    this.profiler.record(handler, elapsed, response.getBytesWritten(),
+        failed || this.isError(request, response));
+  }
+
+  private boolean isError(HttpServletRequest request, HttpServletResponse response) {
+    if (request.getAttribute(ApiDataAdvice.API_DATA_ATTRIBUTE) instanceof ApiData<?> apiData) {
+      return !Boolean.TRUE.equals(apiData.getSuccess());
+    }
+    return response.getStatus() >= 400;
+  }
+
+  private final class CompletionListener implements AsyncListener {
+
+    private final long start;
+    private final CountingResponseWrapper response;
+
+    private CompletionListener(long start, CountingResponseWrapper response) {
+      this.start = start;
+      this.response = response;
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      ApiProfilerFilter.this.record((HttpServletRequest) event.getSuppliedRequest(),
+          this.response, this.start, false);
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+  }
+}
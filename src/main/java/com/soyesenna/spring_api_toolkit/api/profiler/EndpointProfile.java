@@ -0,0 +1,32 @@
+package com.soyesenna.spring_api_toolkit.api.profiler;
+
+/**
+ * Profile of one handler method over the last completed interval, plus lifetime totals.
+ *
+ * @param handler        handler name ({@code Controller#method})
+ * @param requests       requests in the last interval
+ * @param errors         requests in the last interval whose {@code ApiData} was not successful
+ * @param errorRatio     {@code errors / requests}
+ * @param p50Micros      median latency in microseconds
+ * @param p99Micros      99th percentile latency in microseconds
+ * @param p999Micros     99.9th percentile latency in microseconds
+ * @param maxMicros      highest latency in microseconds
+ * @param avgBytes       average response body size in bytes
+ * @param totalRequests  requests since startup
+ * @param totalErrors    errors since startup
+ */
+public record EndpointProfile(
+    String handler,
+    long requests,
+    long errors,
+    double errorRatio,
+    long p50Micros,
+    long p99Micros,
+    long p999Micros,
+    long maxMicros,
+    long avgBytes,
+    long totalRequests,
+    long totalErrors
+) {
+
+}
@@ -0,0 +1,86 @@
+package com.soyesenna.spring_api_toolkit.api.profiler;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records latency, response size and errors of one handler. Request threads write into the active
+ * interval without locking; {@link #swap()} retires it and computes an {@link EndpointProfile}.
+ */
+final class EndpointRecorder {
+
+  private final String name;
+  private final WriterReaderPhaser phaser = new WriterReaderPhaser();
+  private final long[] buckets = new long[LatencyHistogram.BUCKET_COUNT];
+
+  private volatile Interval active = new Interval();
+  private Interval inactive = new Interval();
+  private long totalRequests;
+  private long totalErrors;
+
+  EndpointRecorder(String name) {
+    this.name = name;
+  }
+
+  void record(long elapsedNanos, long bytes, boolean error) {
+    long epoch = this.phaser.writerEnter();
+    try {
+      Interval interval = this.active;
+      interval.latency.record(elapsedNanos);
+      interval.requests.increment();
+      if (error) {
+        interval.errors.increment();
+      }
+      if (bytes > 0) {
+        interval.bytes.add(bytes);
+      }
+    } finally {
+      this.phaser.writerExit(epoch);
+    }
+  }
+
+  synchronized EndpointProfile swap() {
+    Interval retired = this.active;
+    this.inactive.reset();
+    this.active = this.inactive;
+    this.phaser.flipPhase();
+    this.inactive = retired;
+
+    long requests = retired.requests.sum();
+    long errors = retired.errors.sum();
+    this.totalRequests += requests;
+    this.totalErrors += errors;
+    retired.latency.copyInto(this.buckets);
+
+    return new EndpointProfile(
+        this.name,
+        requests,
+        errors,
+        requests == 0 ? 0 : (double) errors / requests,
+        this.micros(requests, 50),
+        this.micros(requests, 99),
+        this.micros(requests, 99.9),
+        this.micros(requests, 100),
+        requests == 0 ? 0 : retired.bytes.sum() / requests,
+        this.totalRequests,
+        this.totalErrors);
+  }
+
+  private long micros(long requests, double percentile) {
+    return LatencyHistogram.valueAtPercentile(this.buckets, requests, percentile) / 1_000;
+  }
+
+  private static final class Interval {
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+
+    private void reset() {
+      this.latency.reset();
+      this.requests.reset();
+      this.errors.reset();
+      this.bytes.reset();
+    }
+  }
+}
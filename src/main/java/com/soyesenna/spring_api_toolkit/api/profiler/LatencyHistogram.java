@@ -0,0 +1,78 @@
+package com.soyesenna.spring_api_toolkit.api.profiler;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free log-linear histogram in the spirit of HdrHistogram: every power of two is split into
+ * 16 linear sub-buckets, which keeps the relative error of any recorded value below 6.25%. Values
+ * up to 2^41 (about 36 minutes in nanoseconds) are tracked, larger values are clamped.
+ */
+final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int MAX_EXPONENT = 40;
+  private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+  static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+  void record(long value) {
+    this.counts.incrementAndGet(indexOf(value));
+  }
+
+  void copyInto(long[] target) {
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      target[i] = this.counts.get(i);
+    }
+  }
+
+  void reset() {
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      this.counts.set(i, 0);
+    }
+  }
+
+  static int indexOf(long value) {
+    long clamped = Math.min(Math.max(value, 0), MAX_VALUE);
+    if (clamped < SUB_BUCKETS) {
+      return (int) clamped;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(clamped);
+    int mantissa = (int) (clamped >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + mantissa;
+  }
+
+  /**
+   * Returns the highest value that maps to the given bucket.
+   */
+  static long highestValueOf(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+    int mantissa = index % SUB_BUCKETS;
+    int shift = exponent - SUB_BUCKET_BITS;
+    long lowest = (long) (SUB_BUCKETS | mantissa) << shift;
+    return lowest + (1L << shift) - 1;
+  }
+
+  /**
+   * Returns the value at the given percentile (0-100) of a bucket snapshot.
+   */
+  static long valueAtPercentile(long[] counts, long total, double percentile) {
+    if (total == 0) {
+      return 0;
+    }
+    long target = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= target) {
+        return highestValueOf(i);
+      }
+    }
+    return highestValueOf(counts.length - 1);
+  }
+}
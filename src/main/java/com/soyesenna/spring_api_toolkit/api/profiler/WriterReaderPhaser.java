@@ -0,0 +1,38 @@
+package com.soyesenna.spring_api_toolkit.api.profiler;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Minimal writer/reader phaser (as used by HdrHistogram's {@code Recorder}). Writers never block;
+ * the single reader flips the phase after swapping the active buffer and waits until every writer
+ * that could still see the old buffer has left its critical section.
+ */
+final class WriterReaderPhaser {
+
+  private final AtomicLong startEpoch = new AtomicLong(0);
+  private final AtomicLong evenEndEpoch = new AtomicLong(0);
+  private final AtomicLong oddEndEpoch = new AtomicLong(Long.MIN_VALUE);
+
+  long writerEnter() {
+    return this.startEpoch.getAndIncrement();
+  }
+
+  void writerExit(long criticalValueAtEnter) {
+    (criticalValueAtEnter < 0 ? this.oddEndEpoch : this.evenEndEpoch).getAndIncrement();
+  }
+
+  /**
+   * Must only be called by one reader at a time.
+   */
+  void flipPhase() {
+    boolean nextPhaseIsEven = this.startEpoch.get() < 0;
+    long initialStartValue = nextPhaseIsEven ? 0 : Long.MIN_VALUE;
+    (nextPhaseIsEven ? this.evenEndEpoch : this.oddEndEpoch).set(initialStartValue);
+
+    long startValueAtFlip = this.startEpoch.getAndSet(initialStartValue);
+    AtomicLong previousEndEpoch = nextPhaseIsEven ? this.oddEndEpoch : this.evenEndEpoch;
+    while (previousEndEpoch.get() != startValueAtFlip) {
+      Thread.onSpinWait();
+    }
+  }
+}
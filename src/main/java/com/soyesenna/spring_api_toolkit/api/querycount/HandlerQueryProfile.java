@@ -0,0 +1,21 @@
+package com.soyesenna.spring_api_toolkit.api.querycount;
+
+/**
+ * Statements per request of one paginated handler.
+ *
+ * @param handler       handler method, {@code Controller#method}
+ * @param requests      observed requests
+ * @param maxStatements highest statement count of a single request
+ * @param slope         least-squares growth of statements per returned row, {@code NaN} until
+ *                      requests with different row counts were observed
+ * @param suspects      requests flagged as N+1 suspects
+ */
+public record HandlerQueryProfile(
+    String handler,
+    long requests,
+    long maxStatements,
+    double slope,
+    long suspects
+) {
+
+}
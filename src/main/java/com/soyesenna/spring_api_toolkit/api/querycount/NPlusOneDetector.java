@@ -0,0 +1,166 @@
+package com.soyesenna.spring_api_toolkit.api.querycount;
+
+import com.soyesenna.spring_api_toolkit.config.ApiQueryCountProperties;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * Flags paginated requests whose statement count grows with the returned rows, the signature of
+ * lazy loading one association per row.
+ * <p>
+ * A request is a suspect when it returned at least {@code min-rows} rows and executed at least
+ * {@code statements-per-row} statements per row on top of the {@code allowance} (page and count
+ * queries). Suspects are logged, published to {@link #onSuspect listeners} (metrics) and kept for
+ * assertions in integration tests:
+ * <pre>
+ * &#64;AfterEach
+ * void noNPlusOne(&#64;Autowired NPlusOneDetector detector) {
+ *   detector.assertNoSuspects();
+ * }
+ * </pre>
+ */
+public class NPlusOneDetector {
+
+  private static final Logger log = LoggerFactory.getLogger(NPlusOneDetector.class);
+
+  private final ApiQueryCountProperties properties;
+  private final ConcurrentMap<Method, HandlerStats> handlers = new ConcurrentHashMap<>();
+  private final Deque<NPlusOneSuspect> suspects = new ArrayDeque<>();
+  private final List<Consumer<NPlusOneSuspect>> listeners = new CopyOnWriteArrayList<>();
+
+  public NPlusOneDetector(ApiQueryCountProperties properties) {
+    this.properties = properties;
+  }
+
+  public void record(HandlerMethod handlerMethod, String path, int rows, int pageSize,
+      long statements) {
+    HandlerStats stats = this.handlers.computeIfAbsent(handlerMethod.getMethod(),
+        method -> new HandlerStats(nameOf(handlerMethod)));
+    boolean suspect = this.isSuspect(rows, statements);
+    stats.record(rows, statements, suspect);
+    if (!suspect) {
+      return;
+    }
+
+    NPlusOneSuspect detected = new NPlusOneSuspect(stats.name, path, rows, pageSize, statements);
+    synchronized (this.suspects) {
+      this.suspects.addLast(detected);
+      while (this.suspects.size() > this.properties.getMaxSuspects()) {
+        this.suspects.pollFirst();
+      }
+    }
+    if (this.properties.isLog()) {
+      log.warn("[N+1] {} executed {} statements for {} rows (page size {}, path: {})",
+          detected.handler(), statements, rows, pageSize, path);
+    }
+    this.listeners.forEach(listener -> listener.accept(detected));
+  }
+
+  /**
+   * Registers a callback for every detected suspect.
+   */
+  public void onSuspect(Consumer<NPlusOneSuspect> listener) {
+    this.listeners.add(listener);
+  }
+
+  /**
+   * Returns the most recent suspects, oldest first.
+   */
+  public List<NPlusOneSuspect> getSuspects() {
+    synchronized (this.suspects) {
+      return List.copyOf(this.suspects);
+    }
+  }
+
+  /**
+   * Returns the profiles of all observed handlers, most statements first.
+   */
+  public List<HandlerQueryProfile> getProfiles() {
+    List<HandlerQueryProfile> profiles = new ArrayList<>(this.handlers.size());
+    this.handlers.values().forEach(stats -> profiles.add(stats.toProfile()));
+    profiles.sort(Comparator.comparingLong(HandlerQueryProfile::maxStatements).reversed());
+    return profiles;
+  }
+
+  /**
+   * Throws an {@link AssertionError} listing the suspects recorded since the last {@link #reset()}.
+   */
+  public void assertNoSuspects() {
+    List<NPlusOneSuspect> detected = this.getSuspects();
+    if (detected.isEmpty()) {
+      return;
+    }
+    StringBuilder message = new StringBuilder("N+1 query suspects detected:");
+    for (NPlusOneSuspect suspect : detected) {
+      message.append(System.lineSeparator()).append("  ").append(suspect.handler())
+          .append(" ").append(suspect.path()).append(": ").append(suspect.statements())
+          .append(" statements for ").append(suspect.rows()).append(" rows");
+    }
+    throw new AssertionError(message.toString());
+  }
+
+  public void reset() {
+    synchronized (this.suspects) {
+      this.suspects.clear();
+    }
+    this.handlers.clear();
+  }
+
+  private boolean isSuspect(int rows, long statements) {
+    return rows >= this.properties.getMinRows()
+        && statements - this.properties.getAllowance()
+        >= rows * this.properties.getStatementsPerRow();
+  }
+
+  private static String nameOf(HandlerMethod handlerMethod) {
+    return handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+  }
+
+  private static final class HandlerStats {
+
+    private final String name;
+    private long requests;
+    private long maxStatements;
+    private long suspects;
+    private double sumRows;
+    private double sumStatements;
+    private double sumRowsSquared;
+    private double sumRowsStatements;
+
+    private HandlerStats(String name) {
+      this.name = name;
+    }
+
+    private synchronized void record(int rows, long statements, boolean suspect) {
+      this.requests++;
+      this.maxStatements = Math.max(this.maxStatements, statements);
+      if (suspect) {
+        this.suspects++;
+      }
+      this.sumRows += rows;
+      this.sumStatements += statements;
+      this.sumRowsSquared += (double) rows * rows;
+      this.sumRowsStatements += (double) rows * statements;
+    }
+
+    private synchronized HandlerQueryProfile toProfile() {
+      double variance = this.requests * this.sumRowsSquared - this.sumRows * this.sumRows;
+      double slope = variance <= 0
+          ? Double.NaN
+          : (this.requests * this.sumRowsStatements - this.sumRows * this.sumStatements) / variance;
+      return new HandlerQueryProfile(this.name, this.requests, this.maxStatements, slope,
+          this.suspects);
+    }
+  }
+}
@@ -0,0 +1,20 @@
+package com.soyesenna.spring_api_toolkit.api.querycount;
+
+/**
+ * Paginated request whose statement count grew with its page.
+ *
+ * @param handler    handler method, {@code Controller#method}
+ * @param path       request URI
+ * @param rows       rows in the returned page
+ * @param pageSize   requested page size
+ * @param statements statements executed from the first interceptor until the response was written
+ */
+public record NPlusOneSuspect(
+    String handler,
+    String path,
+    int rows,
+    int pageSize,
+    long statements
+) {
+
+}
@@ -0,0 +1,93 @@
+package com.soyesenna.spring_api_toolkit.api.querycount;
+
+import com.soyesenna.spring_api_toolkit.api.support.StatementListener;
+
+/**
+ * Number of JDBC statements executed on the current thread while the counter is active. Active for
+ * paginated requests when {@code api.query-count.enabled=true}, and around {@link #measure}.
+ */
+public final class QueryCount implements StatementListener {
+
+  private static final ThreadLocal<QueryCount> CURRENT = new ThreadLocal<>();
+
+  private static volatile boolean observed;
+
+  private static final StatementListener.Provider PROVIDER = new StatementListener.Provider() {
+    @Override
+    public StatementListener current() {
+      return CURRENT.get();
+    }
+
+    @Override
+    public void dataSourceObserved() {
+      observed = true;
+    }
+  };
+
+  private long statements;
+
+  QueryCount() {
+  }
+
+  /**
+   * Returns the counter of the current thread, or {@code null} if none is active.
+   */
+  public static QueryCount current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * Returns the provider to declare as a bean so that observed {@code DataSource}s report to the
+   * counter.
+   */
+  public static StatementListener.Provider provider() {
+    return PROVIDER;
+  }
+
+  static void set(QueryCount queryCount) {
+    CURRENT.set(queryCount);
+  }
+
+  static void clear() {
+    CURRENT.remove();
+  }
+
+  /**
+   * Runs the action and returns the number of statements it executed on this thread, for
+   * assertions in integration tests:
+   * <pre>
+   * assertThat(QueryCount.measure(() -&gt; itemService.search(request))).isLessThanOrEqualTo(2);
+   * </pre>
+   * Throws {@link IllegalStateException} when no {@code DataSource} is observed, since the count
+   * would always be zero; set {@code api.query-count.enabled=true} in the test configuration.
+   */
+  public static long measure(Runnable action) {
+    if (!observed) {
+      throw new IllegalStateException("No DataSource is observed for query counting; "
+          + "set api.query-count.enabled=true");
+    }
+    QueryCount outer = CURRENT.get();
+    QueryCount inner = new QueryCount();
+    CURRENT.set(inner);
+    try {
+      action.run();
+    } finally {
+      if (outer == null) {
+        CURRENT.remove();
+      } else {
+        outer.statements += inner.statements;
+        CURRENT.set(outer);
+      }
+    }
+    return inner.statements;
+  }
+
+  @Override
+  public void statementExecuted(long elapsedNanos) {
+    this.statements++;
+  }
+
+  public long getStatements() {
+    return this.statements;
+  }
+}
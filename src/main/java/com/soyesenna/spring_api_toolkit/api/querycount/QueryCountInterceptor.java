@@ -0,0 +1,93 @@
+package com.soyesenna.spring_api_toolkit.api.querycount;
+
+import com.soyesenna.spring_api_toolkit.api.advice.ApiDataAdvice;
+import com.soyesenna.spring_api_toolkit.api.core.ApiData;
+import com.soyesenna.spring_api_toolkit.api.pagination.PagingRequest;
+import com.soyesenna.spring_api_toolkit.api.pagination.PagingResponse;
+import com.soyesenna.spring_api_toolkit.api.warmup.WarmupMarker;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.core.ResolvableType;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Counts the statements of requests to handlers that take a {@link PagingRequest} or return a
+ * {@link PagingResponse}, from the first interceptor until the response was written, so lazy
+ * loading during serialization of mapped content is included. The count and the returned page
+ * are handed to the {@link NPlusOneDetector}. Warm-up requests are not counted.
+ */
+public class QueryCountInterceptor implements AsyncHandlerInterceptor {
+
+  private static final String COUNT_ATTRIBUTE = QueryCountInterceptor.class.getName() + ".COUNT";
+
+  private final NPlusOneDetector detector;
+  private final ConcurrentMap<Method, Boolean> paginated = new ConcurrentHashMap<>();
+
+  public QueryCountInterceptor(NPlusOneDetector detector) {
+    this.detector = detector;
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+      Object handler) {
+    if (request.getAttribute(COUNT_ATTRIBUTE) instanceof QueryCount queryCount) {
+      QueryCount.set(queryCount);
+      return true;
+    }
+    if (handler instanceof HandlerMethod handlerMethod
+        && !WarmupMarker.isWarmup(request)
+        && this.paginated.computeIfAbsent(handlerMethod.getMethod(), this::isPaginated)) {
+      QueryCount queryCount = new QueryCount();
+      request.setAttribute(COUNT_ATTRIBUTE, queryCount);
+      QueryCount.set(queryCount);
+    }
+    return true;
+  }
+
+  @Override
+  public void afterConcurrentHandlingStarted(HttpServletRequest request,
+      HttpServletResponse response, Object handler) {
+    QueryCount.clear();
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+      Object handler, Exception ex) {
+    QueryCount.clear();
+    if (!(request.getAttribute(COUNT_ATTRIBUTE) instanceof QueryCount queryCount)
+        || !(handler instanceof HandlerMethod handlerMethod)
+        || !(request.getAttribute(ApiDataAdvice.API_DATA_ATTRIBUTE) instanceof ApiData<?> apiData)
+        || !(apiData.getData() instanceof PagingResponse<?> page)) {
+      return;
+    }
+    this.detector.record(handlerMethod, request.getRequestURI(), page.content().size(),
+        page.size(), queryCount.getStatements());
+  }
+
+  private boolean isPaginated(Method method) {
+    for (Class<?> parameterType : method.getParameterTypes()) {
+      if (parameterType == PagingRequest.class) {
+        return true;
+      }
+    }
+    return mentions(ResolvableType.forMethodReturnType(method), 0);
+  }
+
+  private static boolean mentions(ResolvableType type, int depth) {
+    if (type.resolve() == PagingResponse.class) {
+      return true;
+    }
+    if (depth < 3) {
+      for (ResolvableType generic : type.getGenerics()) {
+        if (mentions(generic, depth + 1)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,26 @@
+package com.soyesenna.spring_api_toolkit.api.querycount;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes {@code api.query-count.suspects}, the number of N+1 suspects per handler.
+ */
+public class QueryCountMetrics implements MeterBinder {
+
+  private final NPlusOneDetector detector;
+
+  public QueryCountMetrics(NPlusOneDetector detector) {
+    this.detector = detector;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    this.detector.onSuspect(suspect -> Counter.builder("api.query-count.suspects")
+        .description("Paginated requests whose statement count grew with the returned rows")
+        .tag("handler", suspect.handler())
+        .register(registry)
+        .increment());
+  }
+}
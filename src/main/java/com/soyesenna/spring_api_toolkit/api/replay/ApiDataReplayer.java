@@ -0,0 +1,77 @@
+package com.soyesenna.spring_api_toolkit.api.replay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soyesenna.spring_api_toolkit.api.advice.ApiDataAdvice;
+import com.soyesenna.spring_api_toolkit.api.core.ApiData;
+import com.soyesenna.spring_api_toolkit.api.core.ApiHeader;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+/**
+ * Captures the {@link ApiData} written for a request as a {@link CapturedResponse} and writes
+ * captured responses to other requests.
+ */
+public class ApiDataReplayer {
+
+  private final ObjectMapper objectMapper;
+
+  public ApiDataReplayer(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Captures the JSON {@link ApiData} written for the request, or returns {@code null} when the
+   * request did not produce one.
+   */
+  public CapturedResponse capture(HttpServletRequest request) {
+    if (!(request.getAttribute(ApiDataAdvice.API_DATA_ATTRIBUTE) instanceof ApiData<?> apiData)
+        || !MediaType.APPLICATION_JSON.equals(apiData.getContentType())
+        || apiData.getData() instanceof Resource) {
+      return null;
+    }
+    try {
+      Map<String, List<String>> headers = new LinkedHashMap<>();
+      headers.put(HttpHeaders.CONTENT_TYPE, List.of(MediaType.APPLICATION_JSON_VALUE));
+      for (ApiHeader header : apiData.getHeaders()) {
+        headers.computeIfAbsent(header.getName(), name -> new ArrayList<>())
+            .add(header.getValue());
+      }
+      byte[] body = this.objectMapper.writeValueAsBytes(apiData);
+      return new CapturedResponse(apiData.getHttpStatus().value(), headers, body);
+    } catch (IOException exception) {
+      return null;
+    }
+  }
+
+  /**
+   * Writes the captured response. Captured headers replace headers of the same name already set
+   * on the response, e.g. by filters, instead of being added next to them.
+   */
+  public void replay(CapturedResponse captured, HttpServletResponse response,
+      String markerHeader) throws IOException {
+    response.setStatus(captured.status());
+    captured.headers().forEach((name, values) -> {
+      for (int i = 0; i < values.size(); i++) {
+        if (i == 0) {
+          response.setHeader(name, values.get(i));
+        } else {
+          response.addHeader(name, values.get(i));
+        }
+      }
+    });
+    if (markerHeader != null) {
+      response.setHeader(markerHeader, "true");
+    }
+    response.setContentLength(captured.body().length);
+    response.getOutputStream().write(captured.body());
+    response.flushBuffer();
+  }
+}
@@ -0,0 +1,19 @@
+package com.soyesenna.spring_api_toolkit.api.replay;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serialized {@code ApiData} response that can be written again for another request.
+ *
+ * @param status  HTTP status code
+ * @param headers response headers, including {@code Content-Type}
+ * @param body    serialized body
+ */
+public record CapturedResponse(int status, Map<String, List<String>> headers, byte[] body) {
+
+  public CapturedResponse {
+    headers = headers == null ? Map.of() : Map.copyOf(headers);
+    body = body == null ? new byte[0] : body;
+  }
+}
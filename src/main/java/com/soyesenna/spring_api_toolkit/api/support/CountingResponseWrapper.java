@@ -0,0 +1,118 @@
+package com.soyesenna.spring_api_toolkit.api.support;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+
+/**
+ * Response wrapper that counts the body bytes written without buffering them.
+ * <p>
+ * Characters written through {@link #getWriter()} pass through an encoder that keeps its own
+ * buffer. Whoever installs the wrapper must call {@link #flushWriter()} once the filter chain has
+ * returned, otherwise writer output that the application never flushed is lost.
+ */
+public class CountingResponseWrapper extends HttpServletResponseWrapper {
+
+  private CountingOutputStream outputStream;
+  private PrintWriter writer;
+
+  public CountingResponseWrapper(HttpServletResponse response) {
+    super(response);
+  }
+
+  @Override
+  public ServletOutputStream getOutputStream() throws IOException {
+    if (this.outputStream == null) {
+      this.outputStream = new CountingOutputStream(super.getOutputStream());
+    }
+    return this.outputStream;
+  }
+
+  @Override
+  public PrintWriter getWriter() throws IOException {
+    if (this.writer == null) {
+      Charset charset = Charset.forName(this.getCharacterEncoding());
+      this.writer = new PrintWriter(new OutputStreamWriter(this.getOutputStream(), charset));
+    }
+    return this.writer;
+  }
+
+  @Override
+  public void flushBuffer() throws IOException {
+    if (this.writer != null) {
+      this.writer.flush();
+    }
+    super.flushBuffer();
+  }
+
+  /**
+   * Pushes characters still held by the writer's encoder to the response without flushing the
+   * container buffer, so the response is not committed early.
+   */
+  public void flushWriter() {
+    if (this.writer == null) {
+      return;
+    }
+    this.outputStream.holdFlush = true;
+    try {
+      this.writer.flush();
+    } finally {
+      this.outputStream.holdFlush = false;
+    }
+  }
+
+  public long getBytesWritten() {
+    this.flushWriter();
+    return this.outputStream == null ? 0 : this.outputStream.count;
+  }
+
+  private static final class CountingOutputStream extends ServletOutputStream {
+
+    private final ServletOutputStream delegate;
+    private long count;
+    private boolean holdFlush;
+
+    private CountingOutputStream(ServletOutputStream delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      this.delegate.write(b);
+      this.count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      this.delegate.write(b, off, len);
+      this.count += len;
+    }
+
+    @Override
+    public void flush() throws IOException {
+      if (!this.holdFlush) {
+        this.delegate.flush();
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      this.delegate.close();
+    }
+
+    @Override
+    public boolean isReady() {
+      return this.delegate.isReady();
+    }
+
+    @Override
+    public void setWriteListener(WriteListener writeListener) {
+      this.delegate.setWriteListener(writeListener);
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package com.soyesenna.spring_api_toolkit.api.support;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Wraps the response in a {@link CountingResponseWrapper} so that interceptors can read the number
+ * of body bytes written through {@link #bytesWritten(HttpServletRequest)}.
+ */
+public class ResponseSizeFilter extends OncePerRequestFilter {
+
+  private static final String COUNTER_ATTRIBUTE = ResponseSizeFilter.class.getName() + ".COUNTER";
+
+  /**
+   * Returns the number of body bytes written so far, or -1 when the filter is not active.
+   */
+  public static long bytesWritten(HttpServletRequest request) {
+    Object counter = request.getAttribute(COUNTER_ATTRIBUTE);
+    if (counter instanceof CountingResponseWrapper wrapper) {
+      return wrapper.getBytesWritten();
+    }
+    return -1;
+  }
+
+  /**
+   * Async dispatches write through the wrapper captured by {@code startAsync}, so its writer has
+   * to be flushed after them as well.
+   */
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    if (request.getAttribute(COUNTER_ATTRIBUTE) instanceof CountingResponseWrapper existing) {
+      try {
+        filterChain.doFilter(request, response);
+      } finally {
+        existing.flushWriter();
+      }
+      return;
+    }
+    CountingResponseWrapper wrapper = new CountingResponseWrapper(response);
+    request.setAttribute(COUNTER_ATTRIBUTE, wrapper);
+    try {
+      filterChain.doFilter(request, wrapper);
+    } finally {
+      wrapper.flushWriter();
+    }
+  }
+}
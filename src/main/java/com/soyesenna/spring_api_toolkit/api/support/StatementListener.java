@@ -0,0 +1,29 @@
+package com.soyesenna.spring_api_toolkit.api.support;
+
+/**
+ * Receives the JDBC statements executed on the current thread while it is active.
+ */
+public interface StatementListener {
+
+  void statementExecuted(long elapsedNanos);
+
+  /**
+   * Looks up the listener active on the current thread. Declare implementations as beans to be
+   * called by {@link StatementObservingDataSourcePostProcessor}.
+   */
+  @FunctionalInterface
+  interface Provider {
+
+    /**
+     * Returns the listener of the current thread, or {@code null} if none is active.
+     */
+    StatementListener current();
+
+    /**
+     * Called when a {@code DataSource} bean is proxied, so listeners of this provider will see its
+     * statements.
+     */
+    default void dataSourceObserved() {
+    }
+  }
+}
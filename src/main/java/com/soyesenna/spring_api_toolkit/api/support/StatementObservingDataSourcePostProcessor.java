@@ -0,0 +1,169 @@
+package com.soyesenna.spring_api_toolkit.api.support;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Proxies {@link DataSource} beans so statements executed while a {@link StatementListener} is
+ * active on the thread are reported to it with their execution time. Every connection is wrapped,
+ * so statements on a connection obtained before the listener became active, such as the one bound
+ * to a surrounding transaction, are reported too.
+ * <p>
+ * Statements are only wrapped when a listener is active at the time they are created; otherwise
+ * the driver's statement is returned as is. Unobserved requests (e.g. those not sampled by
+ * Server-Timing) therefore pay one lookup per provider per statement rather than a reflective
+ * call per JDBC method. A statement prepared before a listener became active is not reported.
+ */
+public class StatementObservingDataSourcePostProcessor implements BeanPostProcessor {
+
+  private final ObjectProvider<StatementListener.Provider> providerBeans;
+  private volatile StatementListener.Provider[] providers;
+
+  public StatementObservingDataSourcePostProcessor(
+      ObjectProvider<StatementListener.Provider> providerBeans) {
+    this.providerBeans = providerBeans;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (!(bean instanceof DataSource dataSource) || AopUtils.isAopProxy(bean)) {
+      return bean;
+    }
+    ProxyFactory proxyFactory = new ProxyFactory(dataSource);
+    proxyFactory.setProxyTargetClass(!Modifier.isFinal(dataSource.getClass().getModifiers()));
+    proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+      Object result = invocation.proceed();
+      if (result instanceof Connection connection
+          && invocation.getMethod().getName().equals("getConnection")) {
+        return proxy(Connection.class, new ConnectionHandler(connection));
+      }
+      return result;
+    });
+    Object proxy = proxyFactory.getProxy(dataSource.getClass().getClassLoader());
+    for (StatementListener.Provider provider : this.providers()) {
+      provider.dataSourceObserved();
+    }
+    return proxy;
+  }
+
+  private StatementListener.Provider[] providers() {
+    StatementListener.Provider[] resolved = this.providers;
+    if (resolved == null) {
+      resolved = this.providerBeans.orderedStream().toArray(StatementListener.Provider[]::new);
+      this.providers = resolved;
+    }
+    return resolved;
+  }
+
+  private boolean anyActive() {
+    for (StatementListener.Provider provider : this.providers()) {
+      if (provider.current() != null) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Object execute(Statement target, Method method, Object[] args) throws Throwable {
+    if (!method.getName().startsWith("execute") || !this.anyActive()) {
+      return invoke(target, method, args);
+    }
+    long start = System.nanoTime();
+    try {
+      return invoke(target, method, args);
+    } finally {
+      long elapsed = System.nanoTime() - start;
+      for (StatementListener.Provider provider : this.providers()) {
+        StatementListener listener = provider.current();
+        if (listener != null) {
+          listener.statementExecuted(elapsed);
+        }
+      }
+    }
+  }
+
+  /**
+   * Answers {@code equals}, {@code hashCode} and {@code toString} for the proxy itself, or returns
+   * {@code null} for any other method.
+   */
+  private static Object invokeObjectMethod(Object proxy, Object target, Method method,
+      Object[] args) {
+    return switch (method.getName()) {
+      case "equals" -> method.getParameterCount() == 1 && proxy == args[0];
+      case "hashCode" -> method.getParameterCount() == 0 ? System.identityHashCode(proxy) : null;
+      case "toString" -> method.getParameterCount() == 0 ? "Observed " + target : null;
+      default -> null;
+    };
+  }
+
+  private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+    return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException exception) {
+      throw exception.getTargetException();
+    }
+  }
+
+  private final class ConnectionHandler implements InvocationHandler {
+
+    private final Connection target;
+
+    private ConnectionHandler(Connection target) {
+      this.target = target;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      Object objectResult = invokeObjectMethod(proxy, this.target, method, args);
+      if (objectResult != null) {
+        return objectResult;
+      }
+      Object result = StatementObservingDataSourcePostProcessor.invoke(this.target, method, args);
+      if (result instanceof Statement statement
+          && Statement.class.isAssignableFrom(method.getReturnType())
+          && StatementObservingDataSourcePostProcessor.this.anyActive()) {
+        return proxy(method.getReturnType().asSubclass(Statement.class),
+            new StatementHandler(statement, (Connection) proxy));
+      }
+      return result;
+    }
+  }
+
+  private final class StatementHandler implements InvocationHandler {
+
+    private final Statement target;
+    private final Connection connection;
+
+    private StatementHandler(Statement target, Connection connection) {
+      this.target = target;
+      this.connection = connection;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      Object objectResult = invokeObjectMethod(proxy, this.target, method, args);
+      if (objectResult != null) {
+        return objectResult;
+      }
+      if (method.getName().equals("getConnection") && method.getParameterCount() == 0) {
+        return this.connection;
+      }
+      return StatementObservingDataSourcePostProcessor.this.execute(this.target, method, args);
+    }
+  }
+}
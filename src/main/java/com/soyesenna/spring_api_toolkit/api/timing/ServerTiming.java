@@ -0,0 +1,149 @@
+package com.soyesenna.spring_api_toolkit.api.timing;
+
+import com.soyesenna.spring_api_toolkit.api.support.StatementListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Phase timings of one sampled request, rendered as a {@code Server-Timing} header.
+ * <p>
+ * A recorder exists only for requests selected by {@link ServerTimingFilter}; for all other
+ * requests {@link #current()} returns {@code null} and no instrumentation allocates anything.
+ * Phases:
+ * <ul>
+ *   <li>{@code handler}: from the first interceptor until the handler returned or threw</li>
+ *   <li>{@code db}: JDBC statement execution on the request thread, with the statement count</li>
+ *   <li>{@code error}: exception resolution, when the handler threw</li>
+ *   <li>{@code ser}: response serialization, sent as an HTTP trailer when the client accepts
+ *   trailers ({@code TE: trailers})</li>
+ * </ul>
+ */
+public final class ServerTiming implements StatementListener {
+
+  public static final String HEADER = "Server-Timing";
+
+  private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+
+  private long handlerStartNanos;
+  private long handlerEndNanos;
+  private long errorStartNanos;
+  private long errorEndNanos;
+  private long serializationStartNanos;
+  private long jdbcNanos;
+  private int jdbcCount;
+
+  ServerTiming() {
+  }
+
+  /**
+   * Returns the recorder of the current request, or {@code null} if it is not sampled.
+   */
+  public static ServerTiming current() {
+    return CURRENT.get();
+  }
+
+  static void set(ServerTiming timing) {
+    CURRENT.set(timing);
+  }
+
+  static void clear() {
+    CURRENT.remove();
+  }
+
+  @Override
+  public void statementExecuted(long elapsedNanos) {
+    this.jdbcNanos += elapsedNanos;
+    this.jdbcCount++;
+  }
+
+  void handlerStarted() {
+    if (this.handlerStartNanos == 0) {
+      this.handlerStartNanos = System.nanoTime();
+    }
+  }
+
+  void errorHandlingStarted() {
+    long now = System.nanoTime();
+    if (this.handlerEndNanos == 0) {
+      this.handlerEndNanos = now;
+    }
+    if (this.errorStartNanos == 0) {
+      this.errorStartNanos = now;
+    }
+  }
+
+  /**
+   * Ends the handler and error phases, adds them as the {@code Server-Timing} header and, when the
+   * client accepts trailers, registers the serialization phase as a trailer. Must be called
+   * before the response is committed.
+   */
+  public void writeTo(HttpServletRequest request, HttpServletResponse response) {
+    response.addHeader(HEADER, this.serializationStarted());
+    String te = request.getHeader("TE");
+    if (te == null || !te.toLowerCase(Locale.ROOT).contains("trailers")
+        || "HTTP/1.0".equals(request.getProtocol())) {
+      return;
+    }
+    try {
+      response.setTrailerFields(() -> Map.of(HEADER, this.serializationTrailer()));
+      response.addHeader(HttpHeaders.TRAILER, HEADER);
+    } catch (IllegalStateException exception) {
+      // trailers not supported for this response
+    }
+  }
+
+  /**
+   * Ends the handler and error phases and returns the header value for them.
+   */
+  String serializationStarted() {
+    long now = System.nanoTime();
+    if (this.handlerEndNanos == 0) {
+      this.handlerEndNanos = now;
+    }
+    if (this.errorStartNanos != 0 && this.errorEndNanos == 0) {
+      this.errorEndNanos = now;
+    }
+    this.serializationStartNanos = now;
+
+    StringBuilder header = new StringBuilder(96);
+    if (this.handlerStartNanos != 0) {
+      appendMetric(header, "handler", this.handlerEndNanos - this.handlerStartNanos);
+    }
+    appendMetric(header, "db", this.jdbcNanos);
+    header.append(";desc=\"").append(this.jdbcCount).append(" statements\"");
+    if (this.errorStartNanos != 0) {
+      appendMetric(header, "error", this.errorEndNanos - this.errorStartNanos);
+    }
+    return header.toString();
+  }
+
+  /**
+   * Returns the trailer value for the serialization phase, measured until now.
+   */
+  String serializationTrailer() {
+    StringBuilder trailer = new StringBuilder(24);
+    appendMetric(trailer, "ser", this.serializationStartNanos == 0
+        ? 0
+        : System.nanoTime() - this.serializationStartNanos);
+    return trailer.toString();
+  }
+
+  public long getJdbcNanos() {
+    return this.jdbcNanos;
+  }
+
+  public int getJdbcCount() {
+    return this.jdbcCount;
+  }
+
+  private static void appendMetric(StringBuilder target, String name, long nanos) {
+    if (!target.isEmpty()) {
+      target.append(", ");
+    }
+    target.append(name).append(";dur=")
+        .append(String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0));
+  }
+}
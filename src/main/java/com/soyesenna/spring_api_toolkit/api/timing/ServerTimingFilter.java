@@ -0,0 +1,66 @@
+package com.soyesenna.spring_api_toolkit.api.timing;
+
+import com.soyesenna.spring_api_toolkit.config.ApiServerTimingProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Selects the requests that get a {@link ServerTiming} recorder: those carrying the trigger header
+ * with the configured trigger value and a random sample of the rest. Without a trigger value only
+ * the sample is timed, so clients cannot turn timing on for themselves.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+  private static final String TIMING_ATTRIBUTE = ServerTimingFilter.class.getName() + ".TIMING";
+
+  private final ApiServerTimingProperties properties;
+
+  public ServerTimingFilter(ApiServerTimingProperties properties) {
+    this.properties = properties;
+  }
+
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    ServerTiming timing = request.getAttribute(TIMING_ATTRIBUTE) instanceof ServerTiming existing
+        ? existing
+        : this.select(request);
+    if (timing == null) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+    request.setAttribute(TIMING_ATTRIBUTE, timing);
+    ServerTiming.set(timing);
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      ServerTiming.clear();
+    }
+  }
+
+  private ServerTiming select(HttpServletRequest request) {
+    String triggerValue = this.properties.getTriggerValue();
+    if (StringUtils.hasText(triggerValue)) {
+      String trigger = request.getHeader(this.properties.getTriggerHeader());
+      if (trigger != null && triggerValue.equals(trigger.trim())) {
+        return new ServerTiming();
+      }
+    }
+    double sampleRate = this.properties.getSampleRate();
+    if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+      return new ServerTiming();
+    }
+    return null;
+  }
+}
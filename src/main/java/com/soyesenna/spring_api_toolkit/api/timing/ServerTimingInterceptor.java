@@ -0,0 +1,41 @@
+package com.soyesenna.spring_api_toolkit.api.timing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * Marks the start of the handler phase and, registered as the first exception resolver, the start
+ * of the error phase. It never resolves an exception itself.
+ */
+public class ServerTimingInterceptor implements HandlerInterceptor, HandlerExceptionResolver,
+    Ordered {
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+      Object handler) {
+    ServerTiming timing = ServerTiming.current();
+    if (timing != null) {
+      timing.handlerStarted();
+    }
+    return true;
+  }
+
+  @Override
+  public ModelAndView resolveException(HttpServletRequest request, HttpServletResponse response,
+      Object handler, Exception ex) {
+    ServerTiming timing = ServerTiming.current();
+    if (timing != null) {
+      timing.errorHandlingStarted();
+    }
+    return null;
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.HIGHEST_PRECEDENCE;
+  }
+}
@@ -0,0 +1,186 @@
+package com.soyesenna.spring_api_toolkit.api.warmup;
+
+import com.soyesenna.spring_api_toolkit.config.ApiWarmupProperties;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+/**
+ * Runs the warm-up before the application reports itself ready. Spring Boot publishes
+ * {@link ReadinessState#ACCEPTING_TRAFFIC} only after all {@link ApplicationRunner}s completed, so
+ * readiness stays at {@link ReadinessState#REFUSING_TRAFFIC} while the {@link WarmupTask}s and
+ * {@link WarmupRequest}s are executed against the already started local server.
+ * <p>
+ * Requests go to {@code server.address} (localhost when unset) and the servlet context path, and
+ * carry the {@link WarmupMarker} header. Warm-up stops after the configured number of iterations
+ * or when the maximum duration elapsed, whichever comes first. Failures are counted and never
+ * abort startup.
+ */
+public class ApiWarmupRunner implements ApplicationRunner, Ordered {
+
+  private static final Logger log = LoggerFactory.getLogger(ApiWarmupRunner.class);
+
+  /**
+   * Unmapped path requested to exercise {@code GlobalExceptionHandler} and error serialization.
+   */
+  static final String ERROR_PROBE_PATH = "/__api-toolkit-warmup";
+
+  private final ApplicationContext applicationContext;
+  private final ApiWarmupProperties properties;
+  private final List<WarmupTask> tasks;
+  private final List<WarmupRequest> requests;
+  private volatile WarmupReport lastReport;
+
+  public ApiWarmupRunner(ApplicationContext applicationContext, ApiWarmupProperties properties,
+      List<WarmupTask> tasks, List<WarmupRequest> requests) {
+    this.applicationContext = applicationContext;
+    this.properties = properties;
+    this.tasks = List.copyOf(tasks);
+    List<WarmupRequest> all = new ArrayList<>(requests);
+    this.properties.getPaths().stream().map(WarmupRequest::get).forEach(all::add);
+    if (this.properties.isErrorProbe()) {
+      all.add(WarmupRequest.get(ERROR_PROBE_PATH));
+    }
+    this.requests = List.copyOf(all);
+  }
+
+  /**
+   * Returns the report of the last warm-up, or {@code null} before it completed.
+   */
+  public WarmupReport getLastReport() {
+    return this.lastReport;
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.LOWEST_PRECEDENCE;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    AvailabilityChangeEvent.publish(this.applicationContext, ReadinessState.REFUSING_TRAFFIC);
+    this.lastReport = this.warmUp();
+    log.info("[WARMUP] Completed {} iterations ({} requests, {} failures) in {} ms",
+        this.lastReport.iterations(), this.lastReport.requests(), this.lastReport.failures(),
+        this.lastReport.elapsed().toMillis());
+  }
+
+  WarmupReport warmUp() {
+    String token = WarmupMarker.start();
+    try {
+      return this.warmUp(this.buildHttpRequests(token));
+    } finally {
+      WarmupMarker.finish();
+    }
+  }
+
+  private WarmupReport warmUp(List<HttpRequest> httpRequests) {
+    long start = System.nanoTime();
+    long end = start + this.properties.getMaxDuration().toNanos();
+    int iterations = 0;
+    long sent = 0;
+    long failures = 0;
+
+    try (HttpClient client = httpRequests.isEmpty() ? null : this.newClient()) {
+      while (iterations < this.properties.getIterations() && System.nanoTime() < end) {
+        for (WarmupTask task : this.tasks) {
+          try {
+            task.run();
+          } catch (Exception e) {
+            failures++;
+            this.logFailure(task.getClass().getName(), e);
+          }
+        }
+        for (HttpRequest httpRequest : httpRequests) {
+          sent++;
+          try {
+            client.send(httpRequest, HttpResponse.BodyHandlers.discarding());
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failures++;
+            break;
+          } catch (Exception e) {
+            failures++;
+            this.logFailure(httpRequest.method() + " " + httpRequest.uri(), e);
+          }
+        }
+        iterations++;
+        if (Thread.currentThread().isInterrupted()) {
+          break;
+        }
+      }
+    }
+    return new WarmupReport(iterations, sent, failures,
+        Duration.ofNanos(System.nanoTime() - start));
+  }
+
+  List<HttpRequest> buildHttpRequests(String token) {
+    if (this.requests.isEmpty()) {
+      return List.of();
+    }
+    if (!(this.applicationContext instanceof WebServerApplicationContext webContext)
+        || webContext.getWebServer() == null || webContext.getWebServer().getPort() <= 0) {
+      log.warn("[WARMUP] No local web server port available, skipping warm-up requests");
+      return List.of();
+    }
+    Environment environment = this.applicationContext.getEnvironment();
+    String base = "http://" + host(environment.getProperty("server.address")) + ":"
+        + webContext.getWebServer().getPort()
+        + environment.getProperty("server.servlet.context-path", "");
+    List<HttpRequest> httpRequests = new ArrayList<>(this.requests.size());
+    for (WarmupRequest request : this.requests) {
+      HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(base + request.path()))
+          .timeout(this.properties.getRequestTimeout())
+          .method(request.method().name(), request.body() == null
+              ? HttpRequest.BodyPublishers.noBody()
+              : HttpRequest.BodyPublishers.ofString(request.body()));
+      request.headers().forEach(builder::header);
+      builder.setHeader(WarmupMarker.HEADER, token);
+      httpRequests.add(builder.build());
+    }
+    return httpRequests;
+  }
+
+  /**
+   * Returns the host the server is reachable at: the bound {@code server.address}, or localhost
+   * when the server listens on all interfaces.
+   */
+  private static String host(String address) {
+    if (!StringUtils.hasText(address)) {
+      return "localhost";
+    }
+    String host = address.trim();
+    if (host.equals("0.0.0.0") || host.equals("::") || host.equals("[::]")) {
+      return "localhost";
+    }
+    return host.indexOf(':') >= 0 && !host.startsWith("[") ? "[" + host + "]" : host;
+  }
+
+  private HttpClient newClient() {
+    return HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(this.properties.getRequestTimeout())
+        .build();
+  }
+
+  private void logFailure(String target, Exception e) {
+    if (log.isDebugEnabled()) {
+      log.debug("[WARMUP] {} failed: {}", target, e.toString());
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.soyesenna.spring_api_toolkit.api.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soyesenna.spring_api_toolkit.api.core.ApiData;
+import com.soyesenna.spring_api_toolkit.api.pagination.PagingRequestConverter;
+import com.soyesenna.spring_api_toolkit.api.pagination.PagingResponse;
+import com.soyesenna.spring_api_toolkit.exception.error.ToolkitErrorCode;
+import com.soyesenna.spring_api_toolkit.exception.swagger.ApiErrorCode;
+import com.soyesenna.spring_api_toolkit.exception.swagger.ApiErrorCodeOperationCustomizer;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * Exercises the toolkit's own cold paths in-process: Jackson serialization of {@link ApiData} and
+ * {@link PagingResponse}, {@link PagingRequestConverter} and
+ * {@link ApiErrorCodeOperationCustomizer}. Each collaborator is optional.
+ */
+public class ToolkitWarmupTask implements WarmupTask {
+
+  private static final String PAGING_JSON =
+      "{\"page\":2,\"size\":20,\"sorts\":[{\"property\":\"id\",\"direction\":\"DESC\"}]}";
+
+  private final ObjectMapper objectMapper;
+  private final PagingRequestConverter pagingRequestConverter;
+  private final ApiErrorCodeOperationCustomizer operationCustomizer;
+  private final HandlerMethod sampleHandler;
+  private final List<Sample> sampleContent;
+
+  public ToolkitWarmupTask(ObjectMapper objectMapper,
+      PagingRequestConverter pagingRequestConverter,
+      ApiErrorCodeOperationCustomizer operationCustomizer) {
+    this.objectMapper = objectMapper;
+    this.pagingRequestConverter = pagingRequestConverter;
+    this.operationCustomizer = operationCustomizer;
+    this.sampleHandler = sampleHandler();
+    this.sampleContent = new ArrayList<>(20);
+    for (long id = 0; id < 20; id++) {
+      this.sampleContent.add(new Sample(id, "sample-" + id));
+    }
+  }
+
+  @Override
+  public void run() throws Exception {
+    if (this.objectMapper != null) {
+      PageImpl<Sample> page = new PageImpl<>(this.sampleContent, PageRequest.of(1, 20), 1_000);
+      this.objectMapper.writeValueAsBytes(ApiData.ok(PagingResponse.from(page)));
+      this.objectMapper.writeValueAsBytes(
+          ApiData.ok(PagingResponse.from(page, sample -> sample.name())));
+      this.objectMapper.writeValueAsBytes(ApiData.error(ToolkitErrorCode.NOT_FOUND.getHttpStatus(),
+          ToolkitErrorCode.NOT_FOUND.getCode(), ToolkitErrorCode.NOT_FOUND.getMessage()));
+    }
+    if (this.pagingRequestConverter != null) {
+      this.pagingRequestConverter.convert(PAGING_JSON);
+    }
+    if (this.operationCustomizer != null && this.sampleHandler != null) {
+      this.operationCustomizer.customize(new Operation().responses(new ApiResponses()),
+          this.sampleHandler);
+    }
+  }
+
+  private static HandlerMethod sampleHandler() {
+    try {
+      return new HandlerMethod(new SampleEndpoint(), SampleEndpoint.class.getMethod("sample"));
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+
+  record Sample(Long id, String name) {
+
+  }
+
+  static class SampleEndpoint {
+
+    @ApiErrorCode(@ApiErrorCode.ErrorRef(type = ToolkitErrorCode.class))
+    public void sample() {
+      // signature carrier for ApiErrorCodeOperationCustomizer
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package com.soyesenna.spring_api_toolkit.api.warmup;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.UUID;
+
+/**
+ * Marks the synthetic requests sent by {@link ApiWarmupRunner} so that the profiler, the
+ * concurrency limiter, adaptive paging and query counting leave them out of their statistics.
+ * <p>
+ * The marker header carries a random token that is only valid while a warm-up runs, so clients
+ * cannot use the header to bypass those components.
+ */
+public final class WarmupMarker {
+
+  public static final String HEADER = "X-Api-Warmup";
+
+  private static volatile String token;
+
+  private WarmupMarker() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * Returns whether the request was sent by the warm-up that is currently running.
+   */
+  public static boolean isWarmup(HttpServletRequest request) {
+    String current = token;
+    return current != null && current.equals(request.getHeader(HEADER));
+  }
+
+  static String start() {
+    String started = UUID.randomUUID().toString();
+    token = started;
+    return started;
+  }
+
+  static void finish() {
+    token = null;
+  }
+}
@@ -0,0 +1,15 @@
+package com.soyesenna.spring_api_toolkit.api.warmup;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a warm-up run.
+ *
+ * @param iterations completed iterations
+ * @param requests   HTTP requests sent
+ * @param failures   requests and tasks that threw
+ * @param elapsed    total warm-up time
+ */
+public record WarmupReport(int iterations, long requests, long failures, Duration elapsed) {
+
+}
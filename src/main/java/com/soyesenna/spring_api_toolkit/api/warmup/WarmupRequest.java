@@ -0,0 +1,53 @@
+package com.soyesenna.spring_api_toolkit.api.warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+
+/**
+ * Synthetic HTTP request sent to the local server during warm-up. Declare instances as beans to
+ * warm up application endpoints.
+ *
+ * <pre>
+ * &#64;Bean
+ * WarmupRequest searchWarmup() {
+ *   return WarmupRequest.get("/api/items?page=1&amp;size=20");
+ * }
+ * </pre>
+ *
+ * @param method  HTTP method
+ * @param path    path relative to the servlet context path, including the query string
+ * @param headers request headers
+ * @param body    request body, or {@code null}
+ */
+public record WarmupRequest(
+    HttpMethod method,
+    String path,
+    Map<String, String> headers,
+    String body
+) {
+
+  public WarmupRequest {
+    if (method == null || path == null || !path.startsWith("/")) {
+      throw new IllegalArgumentException("Warm-up request needs a method and an absolute path");
+    }
+    headers = headers == null ? Map.of() : Map.copyOf(headers);
+  }
+
+  public static WarmupRequest get(String path) {
+    return new WarmupRequest(HttpMethod.GET, path, Map.of(), null);
+  }
+
+  public static WarmupRequest post(String path, String jsonBody) {
+    return new WarmupRequest(HttpMethod.POST, path,
+        Map.of(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE), jsonBody);
+  }
+
+  public WarmupRequest header(String name, String value) {
+    Map<String, String> copy = new LinkedHashMap<>(this.headers);
+    copy.put(name, value);
+    return new WarmupRequest(this.method, this.path, copy, this.body);
+  }
+}
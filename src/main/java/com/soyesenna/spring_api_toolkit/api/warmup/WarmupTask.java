@@ -0,0 +1,11 @@
+package com.soyesenna.spring_api_toolkit.api.warmup;
+
+/**
+ * In-process warm-up step executed once per warm-up iteration. Declare implementations as beans to
+ * warm up code paths that are not reachable through a single HTTP request.
+ */
+@FunctionalInterface
+public interface WarmupTask {
+
+  void run() throws Exception;
+}
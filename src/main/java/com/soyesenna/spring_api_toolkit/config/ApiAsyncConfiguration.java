@@ -0,0 +1,40 @@
+package com.soyesenna.spring_api_toolkit.config;
+
+import com.soyesenna.spring_api_toolkit.api.async.ApiAsync;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers the {@link ApiAsync} helper and, when {@code api.async.mvc-executor=true}, runs MVC
+ * {@code Callable} handler results on its virtual-thread executor.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "api.async", name = "enabled", havingValue = "true",
+    matchIfMissing = true)
+@EnableConfigurationProperties(ApiAsyncProperties.class)
+public class ApiAsyncConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean
+  public ApiAsync apiAsync(ApiAsyncProperties asyncProperties) {
+    return new ApiAsync(asyncProperties);
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "api.async", name = "mvc-executor", havingValue = "true")
+  public WebMvcConfigurer asyncWebMvcConfigurer(ApiAsync apiAsync) {
+    return new WebMvcConfigurer() {
+      @Override
+      public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(apiAsync.getExecutor());
+      }
+    };
+  }
+}
@@ -0,0 +1,73 @@
+package com.soyesenna.spring_api_toolkit.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for async handler support.
+ *
+ * <p>Example configuration in application.yml:
+ * <pre>
+ * api:
+ *   async:
+ *     timeout: 10s
+ *     mvc-executor: true
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "api.async")
+public class ApiAsyncProperties {
+
+  /**
+   * Whether the {@code ApiAsync} helper is registered. Defaults to true.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Timeout of work started through {@code ApiAsync}. No timeout besides the request deadline
+   * when unset.
+   */
+  private Duration timeout = Duration.ofSeconds(30);
+
+  /**
+   * Whether MVC {@code Callable} handler results also run on the virtual-thread executor. Off by
+   * default, because it replaces the async executor the application configured for MVC.
+   */
+  private boolean mvcExecutor = false;
+
+  /**
+   * Name prefix of the virtual threads.
+   */
+  private String threadNamePrefix = "api-async-";
+
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public Duration getTimeout() {
+    return this.timeout;
+  }
+
+  public void setTimeout(Duration timeout) {
+    this.timeout = timeout;
+  }
+
+  public boolean isMvcExecutor() {
+    return this.mvcExecutor;
+  }
+
+  public void setMvcExecutor(boolean mvcExecutor) {
+    this.mvcExecutor = mvcExecutor;
+  }
+
+  public String getThreadNamePrefix() {
+    return this.threadNamePrefix;
+  }
+
+  public void setThreadNamePrefix(String threadNamePrefix) {
+    this.threadNamePrefix = threadNamePrefix;
+  }
+}
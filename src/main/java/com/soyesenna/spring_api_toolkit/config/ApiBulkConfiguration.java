@@ -0,0 +1,45 @@
+package com.soyesenna.spring_api_toolkit.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soyesenna.spring_api_toolkit.api.bulk.BulkBodyArgumentResolver;
+import com.soyesenna.spring_api_toolkit.api.bulk.BulkCompletionInterceptor;
+import jakarta.validation.Validator;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers the {@code @BulkBody} argument resolver, validating items with the application's
+ * {@link Validator} when one is available, and the interceptor that closes the body.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "api.bulk", name = "enabled", havingValue = "true",
+    matchIfMissing = true)
+@EnableConfigurationProperties(ApiBulkProperties.class)
+public class ApiBulkConfiguration {
+
+  @Bean
+  public WebMvcConfigurer bulkWebMvcConfigurer(ObjectMapper objectMapper,
+      ObjectProvider<Validator> validator, ApiBulkProperties bulkProperties) {
+    return new WebMvcConfigurer() {
+      @Override
+      public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new BulkBodyArgumentResolver(objectMapper, validator.getIfUnique(),
+            bulkProperties));
+      }
+
+      @Override
+      public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new BulkCompletionInterceptor());
+      }
+    };
+  }
+}
@@ -0,0 +1,44 @@
+package com.soyesenna.spring_api_toolkit.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for {@code @BulkBody} request ingestion.
+ *
+ * <p>Example configuration in application.yml:
+ * <pre>
+ * api:
+ *   bulk:
+ *     max-errors: 100
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "api.bulk")
+public class ApiBulkProperties {
+
+  /**
+   * Whether {@code @BulkBody} arguments are resolved. Defaults to true.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Maximum number of item failures kept in the validation report. Further failures are only
+   * counted.
+   */
+  private int maxErrors = 100;
+
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getMaxErrors() {
+    return this.maxErrors;
+  }
+
+  public void setMaxErrors(int maxErrors) {
+    this.maxErrors = maxErrors;
+  }
+}
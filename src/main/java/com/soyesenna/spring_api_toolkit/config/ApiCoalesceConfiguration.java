@@ -0,0 +1,61 @@
+package com.soyesenna.spring_api_toolkit.config;
+
+import com.soyesenna.spring_api_toolkit.api.coalesce.CoalesceKeyResolver;
+import com.soyesenna.spring_api_toolkit.api.coalesce.CoalesceMetrics;
+import com.soyesenna.spring_api_toolkit.api.coalesce.CoalescingInterceptor;
+import com.soyesenna.spring_api_toolkit.api.coalesce.DefaultCoalesceKeyResolver;
+import com.soyesenna.spring_api_toolkit.api.replay.ApiDataReplayer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers request coalescing for {@code @Coalesce} handlers with the default key resolver unless
+ * another {@link CoalesceKeyResolver} bean is defined and, when Micrometer is on the classpath,
+ * its metrics.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "api.coalesce", name = "enabled", havingValue = "true",
+    matchIfMissing = true)
+@EnableConfigurationProperties(ApiCoalesceProperties.class)
+public class ApiCoalesceConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean
+  public CoalesceKeyResolver coalesceKeyResolver(ApiCoalesceProperties coalesceProperties) {
+    return new DefaultCoalesceKeyResolver(coalesceProperties.getVaryHeaders());
+  }
+
+  @Bean
+  public CoalescingInterceptor coalescingInterceptor(CoalesceKeyResolver coalesceKeyResolver,
+      ApiDataReplayer apiDataReplayer, ApiCoalesceProperties coalesceProperties) {
+    return new CoalescingInterceptor(coalesceKeyResolver, apiDataReplayer, coalesceProperties);
+  }
+
+  @Bean
+  public WebMvcConfigurer coalesceWebMvcConfigurer(CoalescingInterceptor coalescingInterceptor) {
+    return new WebMvcConfigurer() {
+      @Override
+      public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(coalescingInterceptor);
+      }
+    };
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+  static class MetricsConfiguration {
+
+    @Bean
+    public CoalesceMetrics coalesceMetrics(CoalescingInterceptor coalescingInterceptor) {
+      return new CoalesceMetrics(coalescingInterceptor);
+    }
+  }
+}
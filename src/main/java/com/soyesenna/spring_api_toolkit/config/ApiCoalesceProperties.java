@@ -0,0 +1,79 @@
+package com.soyesenna.spring_api_toolkit.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for {@code @Coalesce} handler methods.
+ *
+ * <p>Example configuration in application.yml:
+ * <pre>
+ * api:
+ *   coalesce:
+ *     max-wait: 5s
+ *     max-followers: 32
+ *     vary-headers:
+ *       - Authorization
+ *       - Accept-Language
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "api.coalesce")
+public class ApiCoalesceProperties {
+
+  /**
+   * Whether {@code @Coalesce} is applied. Defaults to true.
+   */
+  private boolean enabled = true;
+
+  /**
+   * How long a follower waits for the in-flight execution before running the handler itself.
+   */
+  private Duration maxWait = Duration.ofSeconds(5);
+
+  /**
+   * How many followers may wait at the same time, across all keys. Each one holds a servlet
+   * thread, so further followers run the handler themselves instead.
+   */
+  private int maxFollowers = 32;
+
+  /**
+   * Request headers that distinguish otherwise identical requests. Keep every header the
+   * response depends on, such as credentials, in this list.
+   */
+  private List<String> varyHeaders = new ArrayList<>(
+      List.of("Authorization", "Cookie", "Accept-Language"));
+
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public Duration getMaxWait() {
+    return this.maxWait;
+  }
+
+  public void setMaxWait(Duration maxWait) {
+    this.maxWait = maxWait;
+  }
+
+  public int getMaxFollowers() {
+    return this.maxFollowers;
+  }
+
+  public void setMaxFollowers(int maxFollowers) {
+    this.maxFollowers = maxFollowers;
+  }
+
+  public List<String> getVaryHeaders() {
+    return this.varyHeaders;
+  }
+
+  public void setVaryHeaders(List<String> varyHeaders) {
+    this.varyHeaders = varyHeaders;
+  }
+}
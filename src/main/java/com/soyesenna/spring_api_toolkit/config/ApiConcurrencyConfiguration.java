@@ -0,0 +1,55 @@
+package com.soyesenna.spring_api_toolkit.config;
+
+import com.soyesenna.spring_api_toolkit.api.concurrency.ConcurrencyLimitInterceptor;
+import com.soyesenna.spring_api_toolkit.api.concurrency.ConcurrencyLimitMetrics;
+import com.soyesenna.spring_api_toolkit.api.concurrency.ConcurrencyLimiterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers adaptive concurrency limiting for {@code @ConcurrencyLimit} handlers and, when
+ * Micrometer is on the classpath, its metrics.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "api.concurrency", name = "enabled", havingValue = "true",
+    matchIfMissing = true)
+@EnableConfigurationProperties(ApiConcurrencyProperties.class)
+public class ApiConcurrencyConfiguration {
+
+  @Bean
+  public ConcurrencyLimiterRegistry concurrencyLimiterRegistry(
+      ApiConcurrencyProperties concurrencyProperties) {
+    return new ConcurrencyLimiterRegistry(concurrencyProperties);
+  }
+
+  @Bean
+  public WebMvcConfigurer concurrencyLimitWebMvcConfigurer(
+      ConcurrencyLimiterRegistry concurrencyLimiterRegistry,
+      ApiConcurrencyProperties concurrencyProperties) {
+    return new WebMvcConfigurer() {
+      @Override
+      public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConcurrencyLimitInterceptor(concurrencyLimiterRegistry,
+            concurrencyProperties.getRejectionCode())).order(ConcurrencyLimitInterceptor.ORDER);
+      }
+    };
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+  static class MetricsConfiguration {
+
+    @Bean
+    public ConcurrencyLimitMetrics concurrencyLimitMetrics(
+        ConcurrencyLimiterRegistry concurrencyLimiterRegistry) {
+      return new ConcurrencyLimitMetrics(concurrencyLimiterRegistry);
+    }
+  }
+}
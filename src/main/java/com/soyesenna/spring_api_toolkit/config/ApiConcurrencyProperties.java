@@ -0,0 +1,115 @@
+package com.soyesenna.spring_api_toolkit.config;
+
+import com.soyesenna.spring_api_toolkit.exception.error.ToolkitErrorCode;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for {@code @ConcurrencyLimit} handler methods.
+ *
+ * <p>Example configuration in application.yml:
+ * <pre>
+ * api:
+ *   concurrency:
+ *     initial-limit: 20
+ *     min-limit: 1
+ *     max-limit: 200
+ *     backoff-ratio: 0.9
+ *     timeout: 1s
+ *     rejection-code: SERVER_OVERLOADED
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "api.concurrency")
+public class ApiConcurrencyProperties {
+
+  /**
+   * Whether {@code @ConcurrencyLimit} is applied. Defaults to true.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Limit each endpoint starts with.
+   */
+  private int initialLimit = 20;
+
+  /**
+   * Lower bound of the limit.
+   */
+  private int minLimit = 1;
+
+  /**
+   * Upper bound of the limit.
+   */
+  private int maxLimit = 200;
+
+  /**
+   * Factor applied to the limit when a request is dropped or slower than the timeout.
+   */
+  private double backoffRatio = 0.9;
+
+  /**
+   * Latency above which a request counts as dropped.
+   */
+  private Duration timeout = Duration.ofSeconds(1);
+
+  /**
+   * Error returned to rejected requests: SERVER_OVERLOADED (503) or TOO_MANY_REQUESTS (429).
+   */
+  private ToolkitErrorCode rejectionCode = ToolkitErrorCode.SERVER_OVERLOADED;
+
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getInitialLimit() {
+    return this.initialLimit;
+  }
+
+  public void setInitialLimit(int initialLimit) {
+    this.initialLimit = initialLimit;
+  }
+
+  public int getMinLimit() {
+    return this.minLimit;
+  }
+
+  public void setMinLimit(int minLimit) {
+    this.minLimit = minLimit;
+  }
+
+  public int getMaxLimit() {
+    return this.maxLimit;
+  }
+
+  public void setMaxLimit(int maxLimit) {
+    this.maxLimit = maxLimit;
+  }
+
+  public double getBackoffRatio() {
+    return this.backoffRatio;
+  }
+
+  public void setBackoffRatio(double backoffRatio) {
+    this.backoffRatio = backoffRatio;
+  }
+
+  public Duration getTimeout() {
+    return this.timeout;
+  }
+
+  public void setTimeout(Duration timeout) {
+    this.timeout = timeout;
+  }
+
+  public ToolkitErrorCode getRejectionCode() {
+    return this.rejectionCode;
+  }
+
+  public void setRejectionCode(ToolkitErrorCode rejectionCode) {
+    this.rejectionCode = rejectionCode;
+  }
+}
@@ -0,0 +1,66 @@
+package com.soyesenna.spring_api_toolkit.config;
+
+import com.soyesenna.spring_api_toolkit.api.deadline.DeadlineCallableInterceptor;
+import com.soyesenna.spring_api_toolkit.api.deadline.DeadlineInterceptor;
+import com.soyesenna.spring_api_toolkit.api.deadline.DeadlineMetrics;
+import com.soyesenna.spring_api_toolkit.api.deadline.DeadlineStartFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers request deadline parsing when {@code api.deadline.enabled=true} and, when Micrometer
+ * is on the classpath, the rejection counter.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "api.deadline", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ApiDeadlineProperties.class)
+public class ApiDeadlineConfiguration {
+
+  @Bean
+  public FilterRegistrationBean<DeadlineStartFilter> deadlineStartFilter() {
+    FilterRegistrationBean<DeadlineStartFilter> registration =
+        new FilterRegistrationBean<>(new DeadlineStartFilter());
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+    return registration;
+  }
+
+  @Bean
+  public DeadlineInterceptor deadlineInterceptor(ApiDeadlineProperties deadlineProperties) {
+    return new DeadlineInterceptor(deadlineProperties);
+  }
+
+  @Bean
+  public WebMvcConfigurer deadlineWebMvcConfigurer(DeadlineInterceptor deadlineInterceptor) {
+    return new WebMvcConfigurer() {
+      @Override
+      public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(deadlineInterceptor).order(DeadlineInterceptor.ORDER);
+      }
+
+      @Override
+      public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new DeadlineCallableInterceptor());
+      }
+    };
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+  static class MetricsConfiguration {
+
+    @Bean
+    public DeadlineMetrics deadlineMetrics(DeadlineInterceptor deadlineInterceptor) {
+      return new DeadlineMetrics(deadlineInterceptor);
+    }
+  }
+}
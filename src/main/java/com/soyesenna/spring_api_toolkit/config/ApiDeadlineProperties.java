@@ -0,0 +1,75 @@
+package com.soyesenna.spring_api_toolkit.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for request deadline propagation.
+ *
+ * <p>Example configuration in application.yml:
+ * <pre>
+ * api:
+ *   deadline:
+ *     enabled: true
+ *     header: X-Request-Timeout
+ *     max-timeout: 5m
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "api.deadline")
+public class ApiDeadlineProperties {
+
+  /**
+   * Whether request deadlines are parsed and enforced. Defaults to false.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Request header carrying the remaining timeout budget.
+   */
+  private String header = "X-Request-Timeout";
+
+  /**
+   * Timeout applied to requests without the header. No deadline when unset.
+   */
+  private Duration defaultTimeout;
+
+  /**
+   * Upper bound for timeouts sent by clients and for the default timeout. Defaults to 5 minutes.
+   * <p>
+   * The deadline bounds JPA queries built with {@code PagingRequest.applyTo(TypedQuery)} only;
+   * repository calls with {@code PagingRequest.toPageable()} are not bounded automatically.
+   */
+  private Duration maxTimeout = Duration.ofMinutes(5);
+
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public String getHeader() {
+    return this.header;
+  }
+
+  public void setHeader(String header) {
+    this.header = header;
+  }
+
+  public Duration getDefaultTimeout() {
+    return this.defaultTimeout;
+  }
+
+  public void setDefaultTimeout(Duration defaultTimeout) {
+    this.defaultTimeout = defaultTimeout;
+  }
+
+  public Duration getMaxTimeout() {
+    return this.maxTimeout;
+  }
+
+  public void setMaxTimeout(Duration maxTimeout) {
+    this.maxTimeout = maxTimeout;
+  }
+}
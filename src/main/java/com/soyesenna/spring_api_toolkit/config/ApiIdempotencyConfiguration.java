@@ -0,0 +1,50 @@
+package com.soyesenna.spring_api_toolkit.config;
+
+import com.soyesenna.spring_api_toolkit.api.idempotency.IdempotencyFingerprintAdvice;
+import com.soyesenna.spring_api_toolkit.api.idempotency.IdempotencyInterceptor;
+import com.soyesenna.spring_api_toolkit.api.idempotency.IdempotencyStore;
+import com.soyesenna.spring_api_toolkit.api.idempotency.InMemoryIdempotencyStore;
+import com.soyesenna.spring_api_toolkit.api.replay.ApiDataReplayer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers the {@code @Idempotent} interceptor, the request body fingerprint advice and a bounded
+ * in-memory store unless another {@link IdempotencyStore} bean is defined.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "api.idempotency", name = "enabled", havingValue = "true",
+    matchIfMissing = true)
+@EnableConfigurationProperties(ApiIdempotencyProperties.class)
+public class ApiIdempotencyConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean
+  public IdempotencyStore idempotencyStore(ApiIdempotencyProperties idempotencyProperties) {
+    return new InMemoryIdempotencyStore(idempotencyProperties.getMaxEntries());
+  }
+
+  @Bean
+  public IdempotencyFingerprintAdvice idempotencyFingerprintAdvice() {
+    return new IdempotencyFingerprintAdvice();
+  }
+
+  @Bean
+  public WebMvcConfigurer idempotencyWebMvcConfigurer(IdempotencyStore idempotencyStore,
+      ApiDataReplayer apiDataReplayer, ApiIdempotencyProperties idempotencyProperties) {
+    return new WebMvcConfigurer() {
+      @Override
+      public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new IdempotencyInterceptor(idempotencyStore, apiDataReplayer,
+            idempotencyProperties));
+      }
+    };
+  }
+}
@@ -0,0 +1,116 @@
+package com.soyesenna.spring_api_toolkit.config;
+
+import com.soyesenna.spring_api_toolkit.api.idempotency.IdempotencyScope;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for {@code @Idempotent} handler methods.
+ *
+ * <p>Example configuration in application.yml:
+ * <pre>
+ * api:
+ *   idempotency:
+ *     header: Idempotency-Key
+ *     scope: principal
+ *     ttl: 24h
+ *     lock-timeout: 1m
+ *     wait: 0s
+ *     max-entries: 10000
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "api.idempotency")
+public class ApiIdempotencyProperties {
+
+  /**
+   * Whether {@code @Idempotent} is applied. Defaults to true.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Request header carrying the idempotency key.
+   */
+  private String header = "Idempotency-Key";
+
+  /**
+   * Whose requests share a key: PRINCIPAL (falling back to the session), SESSION or NONE.
+   * Requests whose scope cannot be resolved are rejected with 400 IDEMPOTENCY_UNSCOPED.
+   */
+  private IdempotencyScope scope = IdempotencyScope.PRINCIPAL;
+
+  /**
+   * How long a stored response is replayed.
+   */
+  private Duration ttl = Duration.ofHours(24);
+
+  /**
+   * How long a key stays reserved when its request never completes.
+   */
+  private Duration lockTimeout = Duration.ofMinutes(1);
+
+  /**
+   * How long a concurrent duplicate waits for the first request before receiving 409.
+   */
+  private Duration wait = Duration.ZERO;
+
+  /**
+   * Maximum number of keys held by the in-memory store.
+   */
+  private int maxEntries = 10_000;
+
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public String getHeader() {
+    return this.header;
+  }
+
+  public void setHeader(String header) {
+    this.header = header;
+  }
+
+  public IdempotencyScope getScope() {
+    return this.scope;
+  }
+
+  public void setScope(IdempotencyScope scope) {
+    this.scope = scope;
+  }
+
+  public Duration getTtl() {
+    return this.ttl;
+  }
+
+  public void setTtl(Duration ttl) {
+    this.ttl = ttl;
+  }
+
+  public Duration getLockTimeout() {
+    return this.lockTimeout;
+  }
+
+  public void setLockTimeout(Duration lockTimeout) {
+    this.lockTimeout = lockTimeout;
+  }
+
+  public Duration getWait() {
+    return this.wait;
+  }
+
+  public void setWait(Duration wait) {
+    this.wait = wait;
+  }
+
+  public int getMaxEntries() {
+    return this.maxEntries;
+  }
+
+  public void setMaxEntries(int maxEntries) {
+    this.maxEntries = maxEntries;
+  }
+}
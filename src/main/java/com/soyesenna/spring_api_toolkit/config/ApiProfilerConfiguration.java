@@ -0,0 +1,47 @@
+package com.soyesenna.spring_api_toolkit.config;
+
+import com.soyesenna.spring_api_toolkit.api.profiler.ApiProfiler;
+import com.soyesenna.spring_api_toolkit.api.profiler.ApiProfilerEndpoint;
+import com.soyesenna.spring_api_toolkit.api.profiler.ApiProfilerFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Registers the per-handler profiler when {@code api.profiler.enabled=true}. The
+ * {@code apiprofile} actuator endpoint is added when Spring Boot Actuator is on the classpath.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "api.profiler", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ApiProfilerProperties.class)
+public class ApiProfilerConfiguration {
+
+  @Bean
+  public ApiProfiler apiProfiler(ApiProfilerProperties profilerProperties) {
+    return new ApiProfiler(profilerProperties);
+  }
+
+  @Bean
+  public FilterRegistrationBean<ApiProfilerFilter> apiProfilerFilter(ApiProfiler apiProfiler) {
+    FilterRegistrationBean<ApiProfilerFilter> registration =
+        new FilterRegistrationBean<>(new ApiProfilerFilter(apiProfiler));
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+    return registration;
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+  static class ActuatorEndpointConfiguration {
+
+    @Bean
+    public ApiProfilerEndpoint apiProfilerEndpoint(ApiProfiler apiProfiler) {
+      return new ApiProfilerEndpoint(apiProfiler);
+    }
+  }
+}
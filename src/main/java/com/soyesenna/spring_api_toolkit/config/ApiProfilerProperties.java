@@ -0,0 +1,89 @@
+package com.soyesenna.spring_api_toolkit.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the per-handler latency and payload profiler.
+ *
+ * <p>Example configuration in application.yml:
+ * <pre>
+ * api:
+ *   profiler:
+ *     enabled: true
+ *     interval: 1m
+ *     log-summary: true
+ *     log-top: 10
+ *     record-unmapped: false
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "api.profiler")
+public class ApiProfilerProperties {
+
+  /**
+   * Whether to profile handler methods. Defaults to false.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Length of a profiling interval. Percentiles are computed per interval.
+   */
+  private Duration interval = Duration.ofMinutes(1);
+
+  /**
+   * Whether to log a summary at the end of every interval.
+   */
+  private boolean logSummary = true;
+
+  /**
+   * Number of busiest handlers included in the log summary.
+   */
+  private int logTop = 10;
+
+  /**
+   * Whether to record requests not served by a handler method (404s, static resources) under a
+   * shared {@code <unmapped>} entry. Defaults to false so that scanners probing random paths do
+   * not flood the profile.
+   */
+  private boolean recordUnmapped = false;
+
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public Duration getInterval() {
+    return this.interval;
+  }
+
+  public void setInterval(Duration interval) {
+    this.interval = interval;
+  }
+
+  public boolean isLogSummary() {
+    return this.logSummary;
+  }
+
+  public void setLogSummary(boolean logSummary) {
+    this.logSummary = logSummary;
+  }
+
+  public int getLogTop() {
+    return this.logTop;
+  }
+
+  public void setLogTop(int logTop) {
+    this.logTop = logTop;
+  }
+
+  public boolean isRecordUnmapped() {
+    return this.recordUnmapped;
+  }
+
+  public void setRecordUnmapped(boolean recordUnmapped) {
+    this.recordUnmapped = recordUnmapped;
+  }
+}
@@ -0,0 +1,73 @@
+package com.soyesenna.spring_api_toolkit.config;
+
+import com.soyesenna.spring_api_toolkit.api.querycount.NPlusOneDetector;
+import com.soyesenna.spring_api_toolkit.api.querycount.QueryCount;
+import com.soyesenna.spring_api_toolkit.api.querycount.QueryCountInterceptor;
+import com.soyesenna.spring_api_toolkit.api.querycount.QueryCountMetrics;
+import com.soyesenna.spring_api_toolkit.api.support.StatementListener;
+import com.soyesenna.spring_api_toolkit.api.support.StatementObservingDataSourcePostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers statement counting when {@code api.query-count.enabled=true}, sharing the DataSource
+ * proxy with Server-Timing, so {@link QueryCount#measure} also works in non-web tests. In servlet
+ * applications it adds N+1 query detection for paginated handlers and, when Micrometer is on the
+ * classpath, its metrics.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(name = "org.springframework.aop.framework.ProxyFactory")
+@ConditionalOnProperty(prefix = "api.query-count", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ApiQueryCountProperties.class)
+public class ApiQueryCountConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean
+  public static StatementObservingDataSourcePostProcessor statementObservingPostProcessor(
+      ObjectProvider<StatementListener.Provider> statementListenerProviders) {
+    return new StatementObservingDataSourcePostProcessor(statementListenerProviders);
+  }
+
+  @Bean
+  public static StatementListener.Provider queryCountStatementListener() {
+    return QueryCount.provider();
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+  static class WebConfiguration {
+
+    @Bean
+    public NPlusOneDetector nPlusOneDetector(ApiQueryCountProperties queryCountProperties) {
+      return new NPlusOneDetector(queryCountProperties);
+    }
+
+    @Bean
+    public WebMvcConfigurer queryCountWebMvcConfigurer(NPlusOneDetector nPlusOneDetector) {
+      return new WebMvcConfigurer() {
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+          registry.addInterceptor(new QueryCountInterceptor(nPlusOneDetector));
+        }
+      };
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class MetricsConfiguration {
+
+      @Bean
+      public QueryCountMetrics queryCountMetrics(NPlusOneDetector nPlusOneDetector) {
+        return new QueryCountMetrics(nPlusOneDetector);
+      }
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package com.soyesenna.spring_api_toolkit.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for N+1 query detection on paginated endpoints.
+ *
+ * <p>Example configuration in application-test.yml:
+ * <pre>
+ * api:
+ *   query-count:
+ *     enabled: true
+ *     min-rows: 5
+ *     allowance: 2
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "api.query-count")
+public class ApiQueryCountProperties {
+
+  /**
+   * Whether statements of paginated requests are counted. Defaults to false.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Minimum rows in the returned page before a request can be flagged.
+   */
+  private int minRows = 5;
+
+  /**
+   * Statements not attributed to rows, such as the page and count queries.
+   */
+  private int allowance = 2;
+
+  /**
+   * Statements per returned row above which a request is flagged.
+   */
+  private double statementsPerRow = 1.0;
+
+  /**
+   * Number of recent suspects kept for {@code NPlusOneDetector.assertNoSuspects()}.
+   */
+  private int maxSuspects = 100;
+
+  /**
+   * Whether suspects are logged at WARN level.
+   */
+  private boolean log = true;
+
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getMinRows() {
+    return this.minRows;
+  }
+
+  public void setMinRows(int minRows) {
+    this.minRows = minRows;
+  }
+
+  public int getAllowance() {
+    return this.allowance;
+  }
+
+  public void setAllowance(int allowance) {
+    this.allowance = allowance;
+  }
+
+  public double getStatementsPerRow() {
+    return this.statementsPerRow;
+  }
+
+  public void setStatementsPerRow(double statementsPerRow) {
+    this.statementsPerRow = statementsPerRow;
+  }
+
+  public int getMaxSuspects() {
+    return this.maxSuspects;
+  }
+
+  public void setMaxSuspects(int maxSuspects) {
+    this.maxSuspects = maxSuspects;
+  }
+
+  public boolean isLog() {
+    return this.log;
+  }
+
+  public void setLog(boolean log) {
+    this.log = log;
+  }
+}
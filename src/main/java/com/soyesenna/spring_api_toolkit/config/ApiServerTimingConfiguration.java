@@ -0,0 +1,76 @@
+package com.soyesenna.spring_api_toolkit.config;
+
+import com.soyesenna.spring_api_toolkit.api.support.StatementListener;
+import com.soyesenna.spring_api_toolkit.api.support.StatementObservingDataSourcePostProcessor;
+import com.soyesenna.spring_api_toolkit.api.timing.ServerTiming;
+import com.soyesenna.spring_api_toolkit.api.timing.ServerTimingFilter;
+import com.soyesenna.spring_api_toolkit.api.timing.ServerTimingInterceptor;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers {@code Server-Timing} headers when {@code api.server-timing.enabled=true} and, unless
+ * {@code api.server-timing.jdbc=false}, JDBC statement timing.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "api.server-timing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ApiServerTimingProperties.class)
+public class ApiServerTimingConfiguration {
+
+  @Bean
+  public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(
+      ApiServerTimingProperties serverTimingProperties) {
+    FilterRegistrationBean<ServerTimingFilter> registration =
+        new FilterRegistrationBean<>(new ServerTimingFilter(serverTimingProperties));
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+    return registration;
+  }
+
+  @Bean
+  public WebMvcConfigurer serverTimingWebMvcConfigurer() {
+    ServerTimingInterceptor interceptor = new ServerTimingInterceptor();
+    return new WebMvcConfigurer() {
+      @Override
+      public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(interceptor).order(Ordered.HIGHEST_PRECEDENCE);
+      }
+
+      @Override
+      public void extendHandlerExceptionResolvers(List<HandlerExceptionResolver> resolvers) {
+        resolvers.add(0, interceptor);
+      }
+    };
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(name = "org.springframework.aop.framework.ProxyFactory")
+  @ConditionalOnProperty(prefix = "api.server-timing", name = "jdbc", havingValue = "true",
+      matchIfMissing = true)
+  static class JdbcConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public static StatementObservingDataSourcePostProcessor statementObservingPostProcessor(
+        ObjectProvider<StatementListener.Provider> statementListenerProviders) {
+      return new StatementObservingDataSourcePostProcessor(statementListenerProviders);
+    }
+
+    @Bean
+    public static StatementListener.Provider serverTimingStatementListener() {
+      return ServerTiming::current;
+    }
+  }
+}
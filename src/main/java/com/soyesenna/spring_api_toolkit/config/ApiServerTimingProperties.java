@@ -0,0 +1,86 @@
+package com.soyesenna.spring_api_toolkit.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for {@code Server-Timing} response headers.
+ *
+ * <p>Example configuration in application.yml:
+ * <pre>
+ * api:
+ *   server-timing:
+ *     enabled: true
+ *     sample-rate: 0.01
+ *     trigger-header: X-Server-Timing
+ *     trigger-value: ${SERVER_TIMING_TOKEN}
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "api.server-timing")
+public class ApiServerTimingProperties {
+
+  /**
+   * Whether sampled requests get a Server-Timing header. Defaults to false.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Fraction of requests timed without the trigger header, from 0.0 to 1.0.
+   */
+  private double sampleRate = 0.0;
+
+  /**
+   * Request header that enables timing for a single request.
+   */
+  private String triggerHeader = "X-Server-Timing";
+
+  /**
+   * Value the trigger header must carry. The trigger header is ignored while unset, so only the
+   * sampled requests are timed.
+   */
+  private String triggerValue;
+
+  /**
+   * Whether DataSource beans are proxied to time JDBC statements.
+   */
+  private boolean jdbc = true;
+
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public double getSampleRate() {
+    return this.sampleRate;
+  }
+
+  public void setSampleRate(double sampleRate) {
+    this.sampleRate = sampleRate;
+  }
+
+  public String getTriggerHeader() {
+    return this.triggerHeader;
+  }
+
+  public void setTriggerHeader(String triggerHeader) {
+    this.triggerHeader = triggerHeader;
+  }
+
+  public String getTriggerValue() {
+    return this.triggerValue;
+  }
+
+  public void setTriggerValue(String triggerValue) {
+    this.triggerValue = triggerValue;
+  }
+
+  public boolean isJdbc() {
+    return this.jdbc;
+  }
+
+  public void setJdbc(boolean jdbc) {
+    this.jdbc = jdbc;
+  }
+}
@@ -0,0 +1,45 @@
+package com.soyesenna.spring_api_toolkit.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soyesenna.spring_api_toolkit.api.pagination.PagingRequestConverter;
+import com.soyesenna.spring_api_toolkit.api.warmup.ApiWarmupRunner;
+import com.soyesenna.spring_api_toolkit.api.warmup.ToolkitWarmupTask;
+import com.soyesenna.spring_api_toolkit.api.warmup.WarmupRequest;
+import com.soyesenna.spring_api_toolkit.api.warmup.WarmupTask;
+import com.soyesenna.spring_api_toolkit.exception.swagger.ApiErrorCodeOperationCustomizer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the startup warm-up when {@code api.warmup.enabled=true}. Applications add their own
+ * {@link WarmupTask} and {@link WarmupRequest} beans.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "api.warmup", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ApiWarmupProperties.class)
+public class ApiWarmupConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean
+  public ToolkitWarmupTask toolkitWarmupTask(ObjectProvider<ObjectMapper> objectMapper,
+      ObjectProvider<PagingRequestConverter> pagingRequestConverter,
+      ObjectProvider<ApiErrorCodeOperationCustomizer> operationCustomizer) {
+    return new ToolkitWarmupTask(objectMapper.getIfAvailable(),
+        pagingRequestConverter.getIfAvailable(), operationCustomizer.getIfAvailable());
+  }
+
+  @Bean
+  public ApiWarmupRunner apiWarmupRunner(ApplicationContext applicationContext,
+      ApiWarmupProperties warmupProperties, ObjectProvider<WarmupTask> tasks,
+      ObjectProvider<WarmupRequest> requests) {
+    return new ApiWarmupRunner(applicationContext, warmupProperties,
+        tasks.orderedStream().toList(), requests.orderedStream().toList());
+  }
+}
@@ -0,0 +1,102 @@
+package com.soyesenna.spring_api_toolkit.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the startup warm-up.
+ *
+ * <p>Example configuration in application.yml:
+ * <pre>
+ * api:
+ *   warmup:
+ *     enabled: true
+ *     iterations: 2000
+ *     max-duration: 20s
+ *     paths:
+ *       - /api/items?page=1&amp;size=20
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "api.warmup")
+public class ApiWarmupProperties {
+
+  /**
+   * Whether the warm-up runs before the application accepts traffic. Defaults to false.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Number of warm-up iterations. Each iteration runs every task and request once.
+   */
+  private int iterations = 1000;
+
+  /**
+   * Upper bound for the whole warm-up, reached before the iterations complete on slow startups.
+   */
+  private Duration maxDuration = Duration.ofSeconds(30);
+
+  /**
+   * Timeout of each synthetic HTTP request.
+   */
+  private Duration requestTimeout = Duration.ofSeconds(5);
+
+  /**
+   * Additional GET paths requested in every iteration.
+   */
+  private List<String> paths = new ArrayList<>();
+
+  /**
+   * Whether an unmapped path is requested to warm up the error response path.
+   */
+  private boolean errorProbe = true;
+
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getIterations() {
+    return this.iterations;
+  }
+
+  public void setIterations(int iterations) {
+    this.iterations = iterations;
+  }
+
+  public Duration getMaxDuration() {
+    return this.maxDuration;
+  }
+
+  public void setMaxDuration(Duration maxDuration) {
+    this.maxDuration = maxDuration;
+  }
+
+  public Duration getRequestTimeout() {
+    return this.requestTimeout;
+  }
+
+  public void setRequestTimeout(Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+  }
+
+  public List<String> getPaths() {
+    return this.paths;
+  }
+
+  public void setPaths(List<String> paths) {
+    this.paths = paths;
+  }
+
+  public boolean isErrorProbe() {
+    return this.errorProbe;
+  }
+
+  public void setErrorProbe(boolean errorProbe) {
+    this.errorProbe = errorProbe;
+  }
+}
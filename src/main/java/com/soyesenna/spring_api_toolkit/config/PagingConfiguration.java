@@ -0,0 +1,53 @@
+package com.soyesenna.spring_api_toolkit.config;
+
+import com.soyesenna.spring_api_toolkit.api.pagination.PagingGovernor;
+import com.soyesenna.spring_api_toolkit.api.pagination.PagingGovernorInterceptor;
+import com.soyesenna.spring_api_toolkit.api.pagination.PagingProperties;
+import com.soyesenna.spring_api_toolkit.api.support.ResponseSizeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers pagination defaults and the page-size governor that enforces {@code api.page.max-*}
+ * limits, {@link com.soyesenna.spring_api_toolkit.api.pagination.PagingLimit} overrides and
+ * adaptive sizing.
+ */
+@Configuration(proxyBeanMethods = false)
+public class PagingConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean
+  public PagingProperties pagingProperties() {
+    return new PagingProperties();
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  public PagingGovernor pagingGovernor(PagingProperties pagingProperties) {
+    return new PagingGovernor(pagingProperties);
+  }
+
+  @Bean
+  @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+  public WebMvcConfigurer pagingGovernorWebMvcConfigurer(PagingGovernor pagingGovernor) {
+    return new WebMvcConfigurer() {
+      @Override
+      public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new PagingGovernorInterceptor(pagingGovernor));
+      }
+    };
+  }
+
+  @Bean
+  @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+  @ConditionalOnProperty(prefix = "api.page.adaptive", name = "enabled", havingValue = "true")
+  public FilterRegistrationBean<ResponseSizeFilter> pagingResponseSizeFilter() {
+    return new FilterRegistrationBean<>(new ResponseSizeFilter());
+  }
+}
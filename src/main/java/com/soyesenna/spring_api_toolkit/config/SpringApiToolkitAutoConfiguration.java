@@ -1,25 +1,45 @@
 package com.soyesenna.spring_api_toolkit.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.soyesenna.spring_api_toolkit.api.advice.ApiDataAdvice;
+import com.soyesenna.spring_api_toolkit.api.replay.ApiDataReplayer;
 import com.soyesenna.spring_api_toolkit.exception.handler.GlobalExceptionHandler;
 import com.soyesenna.spring_api_toolkit.exception.swagger.ApiErrorCodeOperationCustomizer;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 
 /**
- * Auto-configures ApiData wrappers, exception handling, and Swagger examples when the library is on
- * the classpath.
+ * Auto-configures ApiData wrappers, exception handling, pagination limits, and Swagger examples when
+ * the library is on the classpath.
  */
 @AutoConfiguration
 @EnableConfigurationProperties(ApiLogProperties.class)
 @Import({
     ApiDataAdvice.class,
-    ApiErrorCodeOperationCustomizer.class
+    ApiErrorCodeOperationCustomizer.class,
+    PagingConfiguration.class,
+    ApiProfilerConfiguration.class,
+    ApiIdempotencyConfiguration.class,
+    ApiConcurrencyConfiguration.class,
+    ApiDeadlineConfiguration.class,
+    ApiWarmupConfiguration.class,
+    ApiAsyncConfiguration.class,
+    ApiCoalesceConfiguration.class,
+    ApiBulkConfiguration.class,
+    ApiServerTimingConfiguration.class,
+    ApiQueryCountConfiguration.class
 })
 public class SpringApiToolkitAutoConfiguration {
 
+  @Bean
+  @ConditionalOnMissingBean
+  public ApiDataReplayer apiDataReplayer(ObjectMapper objectMapper) {
+    return new ApiDataReplayer(objectMapper);
+  }
+
   @Bean
   public GlobalExceptionHandler globalExceptionHandler(ApiLogProperties logProperties) {
     return new GlobalExceptionHandler(logProperties);
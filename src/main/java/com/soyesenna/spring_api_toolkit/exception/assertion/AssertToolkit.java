@@ -1,7 +1,9 @@
 package com.soyesenna.spring_api_toolkit.exception.assertion;
 
+import com.soyesenna.spring_api_toolkit.api.deadline.RequestDeadline;
 import com.soyesenna.spring_api_toolkit.exception.error.BaseErrorCode;
 import com.soyesenna.spring_api_toolkit.exception.CoreException;
+import com.soyesenna.spring_api_toolkit.exception.error.ToolkitErrorCode;
 import java.util.Collection;
 import java.util.Map;
 import org.springframework.util.StringUtils;
@@ -70,4 +72,19 @@ public final class AssertToolkit {
       throw new CoreException(errorCode, args);
     }
   }
+
+  /**
+   * Throws {@code DEADLINE_EXCEEDED} if the deadline of the current request has passed. Does
+   * nothing for requests without a deadline.
+   */
+  public static void checkDeadline() {
+    AssertToolkit.checkDeadline(ToolkitErrorCode.DEADLINE_EXCEEDED);
+  }
+
+  public static void checkDeadline(BaseErrorCode errorCode, Object... args) {
+    RequestDeadline deadline = RequestDeadline.current();
+    if (deadline != null && deadline.isExpired()) {
+      throw new CoreException(errorCode, false, args);
+    }
+  }
 }
@@ -0,0 +1,61 @@
+package com.soyesenna.spring_api_toolkit.exception.error;
+
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Built-in error codes raised by the toolkit itself.
+ */
+public enum ToolkitErrorCode implements BaseErrorCode {
+
+  NOT_FOUND(HttpStatus.NOT_FOUND, "요청한 리소스를 찾을 수 없습니다.", LogLevel.DEBUG),
+  METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "지원하지 않는 HTTP 메서드입니다.",
+      LogLevel.DEBUG),
+  MESSAGE_NOT_READABLE(HttpStatus.BAD_REQUEST, "요청 본문을 읽을 수 없습니다.", LogLevel.WARN),
+  VALIDATION_ERROR(HttpStatus.BAD_REQUEST, "요청 유효성 검증에 실패했습니다.", LogLevel.WARN),
+  PAGE_OUT_OF_RANGE(HttpStatus.BAD_REQUEST, "요청한 페이지 범위가 너무 큽니다.", LogLevel.DEBUG),
+  IDEMPOTENCY_KEY_MISSING(HttpStatus.BAD_REQUEST, "Idempotency-Key 헤더가 필요합니다.",
+      LogLevel.WARN),
+  IDEMPOTENCY_CONFLICT(HttpStatus.CONFLICT, "동일한 Idempotency-Key 요청이 처리 중입니다.",
+      LogLevel.WARN),
+  IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY,
+      "동일한 Idempotency-Key로 다른 요청 본문이 전송되었습니다.", LogLevel.WARN),
+  IDEMPOTENCY_UNSCOPED(HttpStatus.BAD_REQUEST,
+      "인증 정보나 세션이 없는 요청에는 Idempotency-Key를 사용할 수 없습니다.", LogLevel.WARN),
+  TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.",
+      LogLevel.DEBUG),
+  SERVER_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "서버가 혼잡합니다. 잠시 후 다시 시도해 주세요.",
+      LogLevel.DEBUG),
+  DEADLINE_EXCEEDED(HttpStatus.GATEWAY_TIMEOUT, "요청 처리 제한 시간을 초과했습니다.", LogLevel.DEBUG),
+  ASYNC_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "비동기 요청 처리 시간을 초과했습니다.", LogLevel.WARN);
+
+  private final HttpStatus httpStatus;
+  private final String message;
+  private final LogLevel logLevel;
+
+  ToolkitErrorCode(HttpStatus httpStatus, String message, LogLevel logLevel) {
+    this.httpStatus = httpStatus;
+    this.message = message;
+    this.logLevel = logLevel;
+  }
+
+  @Override
+  public HttpStatus getHttpStatus() {
+    return this.httpStatus;
+  }
+
+  @Override
+  public String getCode() {
+    return this.name();
+  }
+
+  @Override
+  public String getMessage() {
+    return this.message;
+  }
+
+  @Override
+  public LogLevel getLogLevel() {
+    return this.logLevel;
+  }
+}
@@ -4,15 +4,33 @@ import com.soyesenna.spring_api_toolkit.api.core.ApiData;
 import com.soyesenna.spring_api_toolkit.config.ApiLogProperties;
 import com.soyesenna.spring_api_toolkit.exception.CoreException;
 import com.soyesenna.spring_api_toolkit.exception.error.BaseErrorCode;
+import com.soyesenna.spring_api_toolkit.exception.error.ToolkitErrorCode;
 import jakarta.servlet.http.HttpServletRequest;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.text.MessageFormat;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanInstantiationException;
 import org.springframework.boot.logging.LogLevel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StringUtils;
+import org.springframework.validation.BindException;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.servlet.NoHandlerFoundException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -35,6 +53,83 @@ public class GlobalExceptionHandler {
     return ApiData.error(errorCode.getHttpStatus(), errorCode.resolveCode(), resolvedMessage);
   }
 
+  @ExceptionHandler({NoResourceFoundException.class, NoHandlerFoundException.class})
+  public ApiData<Void> handleNoResourceFound(Exception exception, HttpServletRequest request) {
+    return this.handleFrameworkException(ToolkitErrorCode.NOT_FOUND, exception.getMessage(),
+        request);
+  }
+
+  @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
+  public ApiData<Void> handleMethodNotSupported(HttpRequestMethodNotSupportedException exception,
+      HttpServletRequest request) {
+    BaseErrorCode errorCode = ToolkitErrorCode.METHOD_NOT_ALLOWED;
+    this.logFrameworkException(errorCode, exception.getMessage(), request);
+
+    ApiData.Builder<Void> builder = ApiData.<Void>builder()
+        .httpStatus(errorCode.getHttpStatus())
+        .success(false)
+        .code(errorCode.resolveCode())
+        .message(errorCode.getMessage());
+    Set<HttpMethod> supportedMethods = exception.getSupportedHttpMethods();
+    if (supportedMethods != null && !supportedMethods.isEmpty()) {
+      builder.header(HttpHeaders.ALLOW,
+          StringUtils.collectionToCommaDelimitedString(supportedMethods));
+    }
+    return builder.build();
+  }
+
+  @ExceptionHandler({MethodArgumentNotValidException.class, BindException.class})
+  public ApiData<Map<String, String>> handleBindException(BindException exception,
+      HttpServletRequest request) {
+    BaseErrorCode errorCode = ToolkitErrorCode.VALIDATION_ERROR;
+    String detail = exception.getErrorCount() + " binding error(s) on '"
+        + exception.getObjectName() + "'";
+    this.logFrameworkException(errorCode, detail, request);
+
+    return ApiData.validationErrors(errorCode.getHttpStatus(), exception.getBindingResult());
+  }
+
+  @ExceptionHandler(HttpMessageNotReadableException.class)
+  public ApiData<Void> handleMessageNotReadable(HttpMessageNotReadableException exception,
+      HttpServletRequest request) {
+    return this.handleFrameworkException(ToolkitErrorCode.MESSAGE_NOT_READABLE,
+        exception.getMostSpecificCause().getMessage(), request);
+  }
+
+  @ExceptionHandler({AsyncRequestTimeoutException.class, TimeoutException.class})
+  public ApiData<Void> handleAsyncTimeout(Exception exception, HttpServletRequest request) {
+    return this.handleFrameworkException(ToolkitErrorCode.ASYNC_TIMEOUT,
+        exception.getClass().getSimpleName(), request);
+  }
+
+  /**
+   * Async handlers ({@code CompletableFuture}, {@code DeferredResult}) and blocking
+   * {@code Future.get()} calls surface failures wrapped in {@link CompletionException} or
+   * {@link ExecutionException}. The cause is unwrapped and handled like a synchronous failure, so
+   * a wrapped {@link CoreException} keeps its error code. Constructor failures of bound record
+   * arguments such as {@code PagingRequest} arrive as {@link BeanInstantiationException} and are
+   * unwrapped the same way.
+   */
+  @ExceptionHandler({CompletionException.class, ExecutionException.class,
+      UndeclaredThrowableException.class, BeanInstantiationException.class})
+  public ApiData<?> handleWrapped(Exception exception, HttpServletRequest request) {
+    Throwable cause = unwrap(exception);
+    if (cause instanceof CoreException coreException) {
+      return this.handleCoreException(coreException, request);
+    }
+    if (cause instanceof BindException bindException) {
+      return this.handleBindException(bindException, request);
+    }
+    if (cause instanceof HttpMessageNotReadableException notReadableException) {
+      return this.handleMessageNotReadable(notReadableException, request);
+    }
+    if (cause instanceof TimeoutException || cause instanceof AsyncRequestTimeoutException) {
+      return this.handleAsyncTimeout((Exception) cause, request);
+    }
+    return this.handleUnexpected(cause instanceof Exception unwrapped ? unwrapped : exception,
+        request);
+  }
+
   @ExceptionHandler(Exception.class)
   public ApiData<Void> handleUnexpected(Exception exception, HttpServletRequest request) {
     this.logUnexpectedException(request, exception);
@@ -45,6 +140,27 @@ public class GlobalExceptionHandler {
         "Unexpected server error");
   }
 
+  private ApiData<Void> handleFrameworkException(BaseErrorCode errorCode, String detail,
+      HttpServletRequest request) {
+    this.logFrameworkException(errorCode, detail, request);
+
+    return ApiData.error(errorCode.getHttpStatus(), errorCode.resolveCode(),
+        errorCode.getMessage());
+  }
+
+  /**
+   * Framework exceptions are caused by the client (scanners, malformed requests), so they are
+   * logged at the error code's level and never with a stack trace.
+   */
+  private void logFrameworkException(BaseErrorCode errorCode, String detail,
+      HttpServletRequest request) {
+    String logMessage = "[{}] {} - {} (path: {})";
+    Object[] logArgs = {errorCode.getDomain(), errorCode.resolveCode(), detail,
+        this.buildInstancePath(request)};
+
+    this.logWithoutStackTrace(errorCode.getLogLevel(), logMessage, logArgs);
+  }
+
   private void logException(BaseErrorCode errorCode, String message, HttpServletRequest request,
       CoreException exception) {
     LogLevel level = errorCode.getLogLevel();
@@ -97,6 +213,17 @@ public class GlobalExceptionHandler {
     }
   }
 
+  private static Throwable unwrap(Throwable exception) {
+    Throwable current = exception;
+    while ((current instanceof CompletionException || current instanceof ExecutionException
+        || current instanceof UndeclaredThrowableException
+        || current instanceof BeanInstantiationException)
+        && current.getCause() != null && current.getCause() != current) {
+      current = current.getCause();
+    }
+    return current;
+  }
+
   private String buildInstancePath(HttpServletRequest request) {
     String requestUri = request.getRequestURI();
     return requestUri != null ? requestUri : "";
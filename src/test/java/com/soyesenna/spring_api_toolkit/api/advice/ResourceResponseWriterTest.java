@@ -0,0 +1,129 @@
+package com.soyesenna.spring_api_toolkit.api.advice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.soyesenna.spring_api_toolkit.api.core.ApiData;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+class ResourceResponseWriterTest {
+
+  private static final String BODY = "0123456789";
+  private static final String ETAG = "\"v1\"";
+
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    this.mockMvc = MockMvcBuilders.standaloneSetup(new ResourceController())
+        .setControllerAdvice(new ApiDataAdvice())
+        .build();
+  }
+
+  @Test
+  void fullResourceAdvertisesRanges() throws Exception {
+    this.mockMvc.perform(get("/bytes"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+        .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, BODY.length()))
+        .andExpect(content().string(BODY));
+  }
+
+  @Test
+  void singleRangeAnswersPartialContent() throws Exception {
+    this.mockMvc.perform(get("/bytes").header(HttpHeaders.RANGE, "bytes=2-5"))
+        .andExpect(status().isPartialContent())
+        .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+        .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4))
+        .andExpect(content().string("2345"));
+  }
+
+  @Test
+  void multipleRangesAnswerMultipartByteranges() throws Exception {
+    MockHttpServletResponse response = this.mockMvc
+        .perform(get("/bytes").header(HttpHeaders.RANGE, "bytes=0-1,8-9"))
+        .andExpect(status().isPartialContent())
+        .andReturn().getResponse();
+
+    assertThat(response.getContentType()).startsWith("multipart/byteranges; boundary=");
+    String body = response.getContentAsString(StandardCharsets.US_ASCII);
+    assertThat(body)
+        .contains("Content-Type: text/plain")
+        .contains("Content-Range: bytes 0-1/10\r\n\r\n01")
+        .contains("Content-Range: bytes 8-9/10\r\n\r\n89");
+    assertThat(response.getContentLengthLong()).isEqualTo(body.length());
+  }
+
+  @Test
+  void unsatisfiableRangeAnswersRangeNotSatisfiable() throws Exception {
+    this.mockMvc.perform(get("/bytes").header(HttpHeaders.RANGE, "bytes=100-"))
+        .andExpect(status().isRequestedRangeNotSatisfiable())
+        .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"))
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  void matchingIfRangeKeepsRange() throws Exception {
+    this.mockMvc.perform(get("/bytes")
+            .header(HttpHeaders.RANGE, "bytes=0-2")
+            .header(HttpHeaders.IF_RANGE, ETAG))
+        .andExpect(status().isPartialContent())
+        .andExpect(content().string("012"));
+  }
+
+  @Test
+  void staleIfRangeAnswersFullResource() throws Exception {
+    this.mockMvc.perform(get("/bytes")
+            .header(HttpHeaders.RANGE, "bytes=0-2")
+            .header(HttpHeaders.IF_RANGE, "\"v0\""))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+        .andExpect(content().string(BODY));
+  }
+
+  @Test
+  void inputStreamResourceIsCopiedOnceWithoutRangeSupport() throws Exception {
+    this.mockMvc.perform(get("/stream").header(HttpHeaders.RANGE, "bytes=0-2"))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist(HttpHeaders.ACCEPT_RANGES))
+        .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+        .andExpect(header().doesNotExist(HttpHeaders.CONTENT_LENGTH))
+        .andExpect(content().string(BODY));
+  }
+
+  @RestController
+  static class ResourceController {
+
+    @GetMapping("/bytes")
+    ApiData<Resource> bytes() {
+      return ApiData.<Resource>builder()
+          .data(new ByteArrayResource(BODY.getBytes(StandardCharsets.US_ASCII)))
+          .contentType(MediaType.TEXT_PLAIN)
+          .header(HttpHeaders.ETAG, ETAG)
+          .build();
+    }
+
+    @GetMapping("/stream")
+    ApiData<Resource> stream() {
+      // InputStreamResource refuses a second getInputStream(), so a double read fails the test
+      return ApiData.resource(new InputStreamResource(
+          new ByteArrayInputStream(BODY.getBytes(StandardCharsets.US_ASCII))));
+    }
+  }
+}
@@ -0,0 +1,157 @@
+package com.soyesenna.spring_api_toolkit.api.bulk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotBlank;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class BulkItemReaderTest {
+
+  private static final String UNREADABLE = "요청 항목을 읽을 수 없습니다.";
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final Validator VALIDATOR =
+      Validation.buildDefaultValidatorFactory().getValidator();
+
+  private JsonParser parser;
+
+  @Test
+  void malformedJsonMidArrayAbortsAfterConsumedItems() throws Exception {
+    BulkValidationReport report = new BulkValidationReport(100);
+    BulkItemReader<Item> reader = this.reader("[{\"name\":\"a\",\"quantity\":1},{\"name\":",
+        report);
+
+    assertThat(reader.next().name()).isEqualTo("a");
+    assertThatThrownBy(reader::hasNext).isInstanceOf(HttpMessageNotReadableException.class);
+    assertThat(report.getProcessedCount()).isEqualTo(1);
+    assertThat(this.parser.isClosed()).isTrue();
+  }
+
+  @Test
+  void bodyThatIsNotAnArrayIsNotReadable() throws Exception {
+    BulkItemReader<Item> reader = this.reader("{\"name\":\"a\"}", new BulkValidationReport(100));
+
+    assertThatThrownBy(reader::hasNext).isInstanceOf(HttpMessageNotReadableException.class);
+  }
+
+  @Test
+  void failuresBeyondMaxErrorsAreOnlyCounted() throws Exception {
+    BulkValidationReport report = new BulkValidationReport(2);
+    BulkItemReader<Item> reader = this.reader(
+        "[{\"name\":\"\"},{\"name\":\"ok\"},{\"name\":\"\"},{\"name\":\"\"}]", report);
+
+    List<Item> items = new ArrayList<>();
+    reader.forEachRemaining(items::add);
+
+    assertThat(items).extracting(Item::name).containsExactly("ok");
+    assertThat(report.getProcessedCount()).isEqualTo(1);
+    assertThat(report.getFailedCount()).isEqualTo(3);
+    assertThat(report.getErrors()).extracting(BulkValidationReport.ItemError::index)
+        .containsExactly(0L, 2L);
+    assertThat(report.isTruncated()).isTrue();
+    assertThat(report.getErrors().get(0).errors()).containsKey("name");
+  }
+
+  @Test
+  void mappingErrorsAreReportedByPropertyPath() throws Exception {
+    BulkValidationReport report = new BulkValidationReport(100);
+    BulkItemReader<Item> reader = this.reader("[{\"name\":\"a\",\"quantity\":\"many\"},"
+        + "{\"name\":\"b\",\"tags\":[1,\"x\"]},null,\"text\",{\"name\":\"c\"}]", report);
+
+    List<Item> items = new ArrayList<>();
+    reader.forEachRemaining(items::add);
+
+    assertThat(items).extracting(Item::name).containsExactly("c");
+    assertThat(report.getErrors())
+        .extracting(BulkValidationReport.ItemError::index, BulkValidationReport.ItemError::errors)
+        .containsExactly(
+            tuple(0L, Map.of("quantity", UNREADABLE)),
+            tuple(1L, Map.of("tags[1]", UNREADABLE)),
+            tuple(2L, Map.of("$", UNREADABLE)),
+            tuple(3L, Map.of("$", UNREADABLE)));
+  }
+
+  @Test
+  void forEachBatchSplitsAtBatchSize() throws Exception {
+    List<Integer> sizes = new ArrayList<>();
+    this.items("[{\"name\":\"1\"},{\"name\":\"2\"},{\"name\":\"3\"},{\"name\":\"4\"},"
+        + "{\"name\":\"5\"}]").forEachBatch(2, batch -> sizes.add(batch.size()));
+
+    assertThat(sizes).containsExactly(2, 2, 1);
+  }
+
+  @Test
+  void forEachBatchSkipsEmptyTrailingBatch() throws Exception {
+    List<List<String>> batches = new ArrayList<>();
+    this.items("[{\"name\":\"1\"},{\"name\":\"2\"},{\"name\":\"3\"},{\"name\":\"4\"}]")
+        .forEachBatch(2, batch -> batches.add(batch.stream().map(Item::name).toList()));
+
+    assertThat(batches).containsExactly(List.of("1", "2"), List.of("3", "4"));
+  }
+
+  @Test
+  void forEachBatchRejectsNonPositiveSize() throws Exception {
+    BulkItems<Item> items = this.items("[]");
+
+    assertThatThrownBy(() -> items.forEachBatch(0, batch -> { }))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void reportIsIncompleteUntilArrayIsRead() throws Exception {
+    BulkValidationReport report = new BulkValidationReport(100);
+    BulkItemReader<Item> reader = this.reader("[{\"name\":\"a\"},{\"name\":\"b\"}]", report);
+
+    reader.next();
+    assertThat(report.isIncomplete()).isTrue();
+
+    reader.forEachRemaining(item -> { });
+    assertThat(report.isIncomplete()).isFalse();
+  }
+
+  @Test
+  void completionInterceptorClosesUnconsumedBody() throws Exception {
+    BulkValidationReport report = new BulkValidationReport(100);
+    BulkItemReader<Item> reader = this.reader("[{\"name\":\"a\"},{\"name\":\"b\"}]", report);
+    reader.next();
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/items/import");
+    request.setAttribute(BulkBodyArgumentResolver.READER_ATTRIBUTE, reader);
+
+    new BulkCompletionInterceptor().afterCompletion(request, new MockHttpServletResponse(),
+        null, null);
+
+    assertThat(this.parser.isClosed()).isTrue();
+    assertThat(report.isIncomplete()).isTrue();
+    assertThat(request.getAttribute(BulkBodyArgumentResolver.READER_ATTRIBUTE)).isNull();
+  }
+
+  private BulkItems<Item> items(String json) throws IOException {
+    BulkValidationReport report = new BulkValidationReport(100);
+    return new BulkItems<>(this.reader(json, report), report);
+  }
+
+  private BulkItemReader<Item> reader(String json, BulkValidationReport report)
+      throws IOException {
+    byte[] body = json.getBytes(StandardCharsets.UTF_8);
+    this.parser = OBJECT_MAPPER.getFactory().createParser(body);
+    return new BulkItemReader<>(this.parser, OBJECT_MAPPER.readerFor(Item.class), VALIDATOR,
+        new Class<?>[0], report, new MockHttpInputMessage(body));
+  }
+
+  record Item(@NotBlank String name, int quantity, List<Integer> tags) {
+  }
+}
@@ -0,0 +1,156 @@
+package com.soyesenna.spring_api_toolkit.api.coalesce;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soyesenna.spring_api_toolkit.api.advice.ApiDataAdvice;
+import com.soyesenna.spring_api_toolkit.api.core.ApiData;
+import com.soyesenna.spring_api_toolkit.api.replay.ApiDataReplayer;
+import com.soyesenna.spring_api_toolkit.config.ApiCoalesceProperties;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+class CoalescingInterceptorTest {
+
+  private ApiCoalesceProperties properties;
+  private CoalescingInterceptor interceptor;
+  private HandlerMethod handler;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    this.properties = new ApiCoalesceProperties();
+    this.interceptor = new CoalescingInterceptor(new DefaultCoalesceKeyResolver(List.of()),
+        new ApiDataReplayer(new ObjectMapper()), this.properties);
+    this.handler = new HandlerMethod(new CoalescedController(),
+        CoalescedController.class.getDeclaredMethod("items"));
+  }
+
+  @Test
+  void followerReceivesLeaderResponseAndHeaders() throws Exception {
+    MockHttpServletRequest leaderRequest = request();
+    MockHttpServletResponse leaderResponse = new MockHttpServletResponse();
+    assertThat(this.interceptor.preHandle(leaderRequest, leaderResponse, this.handler)).isTrue();
+
+    MockHttpServletResponse followerResponse = new MockHttpServletResponse();
+    CompletableFuture<Boolean> follower = this.follow(followerResponse);
+
+    leaderRequest.setAttribute(ApiDataAdvice.API_DATA_ATTRIBUTE, ApiData.ok("items"));
+    leaderResponse.setHeader(HttpHeaders.CACHE_CONTROL, "max-age=60");
+    leaderResponse.setHeader(HttpHeaders.ETAG, "\"v1\"");
+    leaderResponse.addHeader(HttpHeaders.SET_COOKIE, "SESSION=leader");
+    this.interceptor.afterCompletion(leaderRequest, leaderResponse, this.handler, null);
+
+    assertThat(follower.get(5, TimeUnit.SECONDS)).isFalse();
+    assertThat(followerResponse.getHeader(CoalescingInterceptor.COALESCED_HEADER))
+        .isEqualTo("true");
+    assertThat(followerResponse.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("max-age=60");
+    assertThat(followerResponse.getHeader(HttpHeaders.ETAG)).isEqualTo("\"v1\"");
+    assertThat(followerResponse.getHeader(HttpHeaders.SET_COOKIE)).isNull();
+    assertThat(followerResponse.getContentAsString(StandardCharsets.UTF_8))
+        .contains("\"data\":\"items\"");
+    assertThat(this.interceptor.getCoalescedCount()).isEqualTo(1);
+    assertThat(this.interceptor.getInFlightCount()).isZero();
+  }
+
+  @Test
+  void followerKeepsItsOwnPerExchangeHeaders() throws Exception {
+    MockHttpServletRequest leaderRequest = request();
+    leaderRequest.addHeader(HttpHeaders.ORIGIN, "https://a.example");
+    MockHttpServletResponse leaderResponse = new MockHttpServletResponse();
+    this.interceptor.preHandle(leaderRequest, leaderResponse, this.handler);
+
+    MockHttpServletRequest followerRequest = request();
+    followerRequest.addHeader(HttpHeaders.ORIGIN, "https://b.example");
+    MockHttpServletResponse followerResponse = new MockHttpServletResponse();
+    // set by the follower's own filters before the interceptor runs
+    followerResponse.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, "https://b.example");
+    followerResponse.setHeader("X-Request-Id", "follower");
+    followerResponse.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+    CompletableFuture<Boolean> follower = this.follow(followerRequest, followerResponse);
+
+    leaderRequest.setAttribute(ApiDataAdvice.API_DATA_ATTRIBUTE, ApiData.ok("items"));
+    leaderResponse.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, "https://a.example");
+    leaderResponse.setHeader("X-Request-Id", "leader");
+    leaderResponse.setHeader(HttpHeaders.CACHE_CONTROL, "max-age=60");
+    this.interceptor.afterCompletion(leaderRequest, leaderResponse, this.handler, null);
+
+    assertThat(follower.get(5, TimeUnit.SECONDS)).isFalse();
+    assertThat(followerResponse.getHeaders(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN))
+        .containsExactly("https://b.example");
+    assertThat(followerResponse.getHeaders("X-Request-Id")).containsExactly("follower");
+    assertThat(followerResponse.getHeaders(HttpHeaders.CACHE_CONTROL))
+        .containsExactly("max-age=60");
+    assertThat(followerResponse.getHeaders(HttpHeaders.CONTENT_TYPE)).hasSize(1);
+  }
+
+  @Test
+  void failedLeaderLetsFollowerRunHandler() throws Exception {
+    MockHttpServletRequest leaderRequest = request();
+    MockHttpServletResponse leaderResponse = new MockHttpServletResponse();
+    this.interceptor.preHandle(leaderRequest, leaderResponse, this.handler);
+
+    MockHttpServletResponse followerResponse = new MockHttpServletResponse();
+    CompletableFuture<Boolean> follower = this.follow(followerResponse);
+
+    this.interceptor.afterCompletion(leaderRequest, leaderResponse, this.handler,
+        new IllegalStateException("boom"));
+
+    assertThat(follower.get(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(followerResponse.getContentLength()).isZero();
+    assertThat(this.interceptor.getCoalescedCount()).isZero();
+    assertThat(this.interceptor.getWaitingCount()).isZero();
+  }
+
+  @Test
+  void followersBeyondLimitRunHandlerWithoutWaiting() throws Exception {
+    this.properties.setMaxFollowers(0);
+    this.interceptor.preHandle(request(), new MockHttpServletResponse(), this.handler);
+
+    assertThat(this.interceptor.preHandle(request(), new MockHttpServletResponse(),
+        this.handler)).isTrue();
+    assertThat(this.interceptor.getWaitingCount()).isZero();
+  }
+
+  private CompletableFuture<Boolean> follow(MockHttpServletResponse response) throws Exception {
+    return this.follow(request(), response);
+  }
+
+  private CompletableFuture<Boolean> follow(MockHttpServletRequest request,
+      MockHttpServletResponse response) throws Exception {
+    CompletableFuture<Boolean> follower = new CompletableFuture<>();
+    Thread thread = new Thread(() -> {
+      try {
+        follower.complete(this.interceptor.preHandle(request, response, this.handler));
+      } catch (Exception exception) {
+        follower.completeExceptionally(exception);
+      }
+    });
+    thread.start();
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (this.interceptor.getWaitingCount() == 0 && System.nanoTime() < deadline) {
+      Thread.sleep(1);
+    }
+    assertThat(this.interceptor.getWaitingCount()).isEqualTo(1);
+    return follower;
+  }
+
+  private static MockHttpServletRequest request() {
+    return new MockHttpServletRequest("GET", "/items");
+  }
+
+  static class CoalescedController {
+
+    @Coalesce
+    ApiData<String> items() {
+      return ApiData.ok("items");
+    }
+  }
+}
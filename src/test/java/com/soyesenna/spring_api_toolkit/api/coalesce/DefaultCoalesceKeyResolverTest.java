@@ -0,0 +1,86 @@
+package com.soyesenna.spring_api_toolkit.api.coalesce;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.method.HandlerMethod;
+
+class DefaultCoalesceKeyResolverTest {
+
+  private final DefaultCoalesceKeyResolver resolver =
+      new DefaultCoalesceKeyResolver(List.of("Authorization"));
+
+  @Test
+  void parameterOrderDoesNotMatter() throws Exception {
+    MockHttpServletRequest first = request("/items");
+    first.addParameter("size", "20");
+    first.addParameter("page", "1");
+    MockHttpServletRequest second = request("/items");
+    second.addParameter("page", "1");
+    second.addParameter("size", "20");
+
+    assertThat(this.resolve(first, "plain")).isEqualTo(this.resolve(second, "plain"));
+  }
+
+  @Test
+  void parameterValuesAndPathsDistinguishRequests() throws Exception {
+    MockHttpServletRequest first = request("/items");
+    first.addParameter("page", "1");
+    MockHttpServletRequest second = request("/items");
+    second.addParameter("page", "2");
+
+    assertThat(this.resolve(first, "plain")).isNotEqualTo(this.resolve(second, "plain"));
+    assertThat(this.resolve(request("/items"), "plain"))
+        .isNotEqualTo(this.resolve(request("/others"), "plain"));
+  }
+
+  @Test
+  void configuredVaryHeaderDistinguishesRequests() throws Exception {
+    MockHttpServletRequest alice = request("/items");
+    alice.addHeader("Authorization", "Bearer alice");
+    MockHttpServletRequest bob = request("/items");
+    bob.addHeader("Authorization", "Bearer bob");
+    MockHttpServletRequest anonymous = request("/items");
+
+    assertThat(this.resolve(alice, "plain")).isNotEqualTo(this.resolve(bob, "plain"));
+    assertThat(this.resolve(alice, "plain")).isNotEqualTo(this.resolve(anonymous, "plain"));
+  }
+
+  @Test
+  void annotationVaryHeaderDistinguishesRequests() throws Exception {
+    MockHttpServletRequest korean = request("/items");
+    korean.addHeader("X-Region", "kr");
+    MockHttpServletRequest japanese = request("/items");
+    japanese.addHeader("X-Region", "jp");
+
+    assertThat(this.resolve(korean, "plain")).isEqualTo(this.resolve(japanese, "plain"));
+    assertThat(this.resolve(korean, "regional"))
+        .isNotEqualTo(this.resolve(japanese, "regional"));
+  }
+
+  private String resolve(MockHttpServletRequest request, String method) throws Exception {
+    HandlerMethod handlerMethod = new HandlerMethod(new CoalescedController(),
+        CoalescedController.class.getDeclaredMethod(method));
+    return this.resolver.resolve(request, handlerMethod,
+        handlerMethod.getMethodAnnotation(Coalesce.class));
+  }
+
+  private static MockHttpServletRequest request(String uri) {
+    return new MockHttpServletRequest("GET", uri);
+  }
+
+  static class CoalescedController {
+
+    @Coalesce
+    String plain() {
+      return "plain";
+    }
+
+    @Coalesce(varyHeaders = "X-Region")
+    String regional() {
+      return "regional";
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package com.soyesenna.spring_api_toolkit.api.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AimdLimiterTest {
+
+  private static final long TIMEOUT = TimeUnit.SECONDS.toNanos(1);
+  private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+
+  @Test
+  void limitGrowsByOneWhenHalfOfItIsInUse() {
+    AimdLimiter limiter = limiter(10, 1, 100);
+    acquire(limiter, 5);
+
+    limiter.release(FAST, false);
+
+    assertThat(limiter.getLimit()).isEqualTo(11);
+    assertThat(limiter.getInFlight()).isEqualTo(4);
+  }
+
+  @Test
+  void limitDoesNotGrowWhenUnderused() {
+    AimdLimiter limiter = limiter(10, 1, 100);
+    acquire(limiter, 1);
+
+    limiter.release(FAST, false);
+
+    assertThat(limiter.getLimit()).isEqualTo(10);
+  }
+
+  @Test
+  void droppedRequestBacksOff() {
+    AimdLimiter limiter = limiter(10, 1, 100);
+    acquire(limiter, 1);
+
+    limiter.release(FAST, true);
+
+    assertThat(limiter.getLimit()).isEqualTo(9);
+  }
+
+  @Test
+  void slowRequestBacksOff() {
+    AimdLimiter limiter = limiter(10, 1, 100);
+    acquire(limiter, 1);
+
+    limiter.release(TIMEOUT + 1, false);
+
+    assertThat(limiter.getLimit()).isEqualTo(9);
+  }
+
+  @Test
+  void limitNeverDropsBelowMinimum() {
+    AimdLimiter limiter = limiter(3, 2, 100);
+    for (int i = 0; i < 20; i++) {
+      acquire(limiter, 1);
+      limiter.release(FAST, true);
+    }
+
+    assertThat(limiter.getLimit()).isEqualTo(2);
+  }
+
+  @Test
+  void limitNeverGrowsAboveMaximum() {
+    AimdLimiter limiter = limiter(3, 1, 4);
+    for (int i = 0; i < 5; i++) {
+      acquire(limiter, limiter.getLimit());
+      for (int j = limiter.getInFlight(); j > 0; j--) {
+        limiter.release(FAST, false);
+      }
+    }
+
+    assertThat(limiter.getLimit()).isEqualTo(4);
+  }
+
+  @Test
+  void initialLimitIsClampedToBounds() {
+    assertThat(limiter(500, 1, 100).getLimit()).isEqualTo(100);
+    assertThat(limiter(0, 5, 100).getLimit()).isEqualTo(5);
+  }
+
+  @Test
+  void requestsAboveTheLimitAreRejected() {
+    AimdLimiter limiter = limiter(2, 1, 100);
+
+    assertThat(limiter.tryAcquire()).isTrue();
+    assertThat(limiter.tryAcquire()).isTrue();
+    assertThat(limiter.tryAcquire()).isFalse();
+    assertThat(limiter.getRejected()).isEqualTo(1);
+  }
+
+  @Test
+  void releaseWithoutSampleKeepsTheLimit() {
+    AimdLimiter limiter = limiter(2, 1, 100);
+    acquire(limiter, 2);
+
+    limiter.release();
+
+    assertThat(limiter.getLimit()).isEqualTo(2);
+    assertThat(limiter.getInFlight()).isEqualTo(1);
+  }
+
+  private static AimdLimiter limiter(int initial, int min, int max) {
+    return new AimdLimiter("test", initial, min, max, 0.9, TIMEOUT);
+  }
+
+  private static void acquire(AimdLimiter limiter, int permits) {
+    for (int i = 0; i < permits; i++) {
+      assertThat(limiter.tryAcquire()).isTrue();
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package com.soyesenna.spring_api_toolkit.api.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.soyesenna.spring_api_toolkit.config.ApiConcurrencyProperties;
+import com.soyesenna.spring_api_toolkit.exception.error.ToolkitErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.DispatcherServlet;
+
+class ConcurrencyLimitInterceptorTest {
+
+  private ConcurrencyLimiterRegistry registry;
+  private ConcurrencyLimitInterceptor interceptor;
+  private MockHttpServletRequest request;
+  private MockHttpServletResponse response;
+
+  @BeforeEach
+  void setUp() {
+    this.registry = new ConcurrencyLimiterRegistry(new ApiConcurrencyProperties());
+    this.interceptor = new ConcurrencyLimitInterceptor(this.registry,
+        ToolkitErrorCode.SERVER_OVERLOADED);
+    this.request = new MockHttpServletRequest("GET", "/items");
+    this.response = new MockHttpServletResponse();
+  }
+
+  @Test
+  void deliberateServerErrorIsNotADrop() throws Exception {
+    HandlerMethod handler = handler("large");
+    this.interceptor.preHandle(this.request, this.response, handler);
+    this.response.setStatus(503);
+    this.request.setAttribute(DispatcherServlet.EXCEPTION_ATTRIBUTE,
+        ToolkitErrorCode.DEADLINE_EXCEEDED.throwWithoutStackTrace());
+
+    this.interceptor.afterCompletion(this.request, this.response, handler, null);
+
+    assertThat(this.registry.limiterOf(handler).getLimit()).isEqualTo(10);
+  }
+
+  @Test
+  void unexpectedExceptionIsADrop() throws Exception {
+    HandlerMethod handler = handler("large");
+    this.interceptor.preHandle(this.request, this.response, handler);
+    this.request.setAttribute(DispatcherServlet.EXCEPTION_ATTRIBUTE,
+        new IllegalStateException("boom"));
+
+    this.interceptor.afterCompletion(this.request, this.response, handler, null);
+
+    assertThat(this.registry.limiterOf(handler).getLimit()).isEqualTo(9);
+  }
+
+  @Test
+  void unresolvedExceptionIsADrop() throws Exception {
+    HandlerMethod handler = handler("large");
+    this.interceptor.preHandle(this.request, this.response, handler);
+
+    this.interceptor.afterCompletion(this.request, this.response, handler,
+        new IllegalStateException("boom"));
+
+    assertThat(this.registry.limiterOf(handler).getLimit()).isEqualTo(9);
+  }
+
+  @Test
+  void completedRequestIsASample() throws Exception {
+    HandlerMethod handler = handler("small");
+    this.interceptor.preHandle(this.request, this.response, handler);
+    this.interceptor.postHandle(this.request, this.response, handler, null);
+
+    this.interceptor.afterCompletion(this.request, this.response, handler, null);
+
+    assertThat(this.registry.limiterOf(handler).getLimit()).isEqualTo(2);
+    assertThat(this.registry.limiterOf(handler).getInFlight()).isZero();
+  }
+
+  @Test
+  void shortCircuitedRequestIsReleasedWithoutSample() throws Exception {
+    HandlerMethod handler = handler("small");
+    this.interceptor.preHandle(this.request, this.response, handler);
+
+    this.interceptor.afterCompletion(this.request, this.response, handler, null);
+
+    assertThat(this.registry.limiterOf(handler).getLimit()).isEqualTo(1);
+    assertThat(this.registry.limiterOf(handler).getInFlight()).isZero();
+  }
+
+  private static HandlerMethod handler(String name) throws NoSuchMethodException {
+    return new HandlerMethod(new LimitedController(),
+        LimitedController.class.getDeclaredMethod(name));
+  }
+
+  static class LimitedController {
+
+    @ConcurrencyLimit(initialLimit = 1)
+    String small() {
+      return "small";
+    }
+
+    @ConcurrencyLimit(initialLimit = 10)
+    String large() {
+      return "large";
+    }
+  }
+}
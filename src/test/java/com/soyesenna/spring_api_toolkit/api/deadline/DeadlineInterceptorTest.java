@@ -0,0 +1,98 @@
+package com.soyesenna.spring_api_toolkit.api.deadline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.soyesenna.spring_api_toolkit.config.ApiDeadlineProperties;
+import com.soyesenna.spring_api_toolkit.exception.CoreException;
+import com.soyesenna.spring_api_toolkit.exception.error.ToolkitErrorCode;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class DeadlineInterceptorTest {
+
+  private final DeadlineInterceptor interceptor =
+      new DeadlineInterceptor(new ApiDeadlineProperties());
+  private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/items");
+  private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+  @AfterEach
+  void tearDown() {
+    this.interceptor.afterCompletion(this.request, this.response, null, null);
+  }
+
+  @Test
+  void budgetStartsWhenTheRequestArrived() {
+    this.request.setAttribute(DeadlineStartFilter.START_ATTRIBUTE,
+        System.nanoTime() - TimeUnit.SECONDS.toNanos(2));
+    this.request.addHeader("X-Request-Timeout", "1s");
+
+    assertThatThrownBy(() -> this.interceptor.preHandle(this.request, this.response, null))
+        .isInstanceOf(CoreException.class)
+        .extracting(exception -> ((CoreException) exception).getErrorCode())
+        .isEqualTo(ToolkitErrorCode.DEADLINE_EXCEEDED);
+    assertThat(this.interceptor.getRejectedCount()).isEqualTo(1);
+  }
+
+  @Test
+  void remainingBudgetExcludesTimeBeforeTheInterceptor() {
+    this.request.setAttribute(DeadlineStartFilter.START_ATTRIBUTE,
+        System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(500));
+    this.request.addHeader("X-Request-Timeout", "1500");
+
+    assertThat(this.interceptor.preHandle(this.request, this.response, null)).isTrue();
+
+    assertThat(RequestDeadline.current()).isNotNull();
+    assertThat(RequestDeadline.current().remaining()).isLessThanOrEqualTo(Duration.ofSeconds(1));
+  }
+
+  @Test
+  void startFilterRecordsTheArrivalOnce() throws Exception {
+    new DeadlineStartFilter().doFilter(this.request, this.response, new MockFilterChain());
+    Object first = this.request.getAttribute(DeadlineStartFilter.START_ATTRIBUTE);
+
+    new DeadlineStartFilter().doFilter(this.request, this.response, new MockFilterChain());
+
+    assertThat(first).isInstanceOf(Long.class);
+    assertThat(this.request.getAttribute(DeadlineStartFilter.START_ATTRIBUTE)).isSameAs(first);
+  }
+
+  @Test
+  void requestWithoutTimeoutHasNoDeadline() {
+    assertThat(this.interceptor.preHandle(this.request, this.response, null)).isTrue();
+
+    assertThat(RequestDeadline.current()).isNull();
+  }
+
+  @Test
+  void hugeTimeoutIsClampedToTheMaximum() {
+    this.request.addHeader("X-Request-Timeout", "99999999999d");
+
+    assertThat(this.interceptor.preHandle(this.request, this.response, null)).isTrue();
+
+    assertThat(RequestDeadline.current().remaining()).isLessThanOrEqualTo(Duration.ofMinutes(5));
+  }
+
+  @Test
+  void invalidOrNegativeTimeoutIsIgnored() {
+    this.request.addHeader("X-Request-Timeout", "-5s");
+
+    assertThat(this.interceptor.preHandle(this.request, this.response, null)).isTrue();
+
+    assertThat(RequestDeadline.current()).isNull();
+  }
+
+  @Test
+  void deadlineBeyondTheNanoTimeRangeSaturates() {
+    RequestDeadline deadline = RequestDeadline.after(Duration.ofDays(99_999_999_999L));
+
+    assertThat(deadline.isExpired()).isFalse();
+    assertThat(deadline.remaining()).isGreaterThan(Duration.ofDays(365 * 200));
+    assertThat(RequestDeadline.after(Duration.ofSeconds(-1)).isExpired()).isTrue();
+  }
+}
@@ -0,0 +1,231 @@
+package com.soyesenna.spring_api_toolkit.api.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soyesenna.spring_api_toolkit.api.advice.ApiDataAdvice;
+import com.soyesenna.spring_api_toolkit.api.concurrency.ConcurrencyLimit;
+import com.soyesenna.spring_api_toolkit.api.concurrency.ConcurrencyLimitInterceptor;
+import com.soyesenna.spring_api_toolkit.api.concurrency.ConcurrencyLimiterRegistry;
+import com.soyesenna.spring_api_toolkit.api.core.ApiData;
+import com.soyesenna.spring_api_toolkit.api.replay.ApiDataReplayer;
+import com.soyesenna.spring_api_toolkit.config.ApiConcurrencyProperties;
+import com.soyesenna.spring_api_toolkit.config.ApiIdempotencyProperties;
+import com.soyesenna.spring_api_toolkit.config.ApiLogProperties;
+import com.soyesenna.spring_api_toolkit.exception.error.ToolkitErrorCode;
+import com.soyesenna.spring_api_toolkit.exception.handler.GlobalExceptionHandler;
+import java.security.Principal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+class IdempotencyInterceptorTest {
+
+  private static final Principal ALICE = () -> "alice";
+  private static final Principal BOB = () -> "bob";
+
+  private final TestController controller = new TestController();
+  private IdempotencyInterceptor interceptor;
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    ApiIdempotencyProperties properties = new ApiIdempotencyProperties();
+    this.interceptor = new IdempotencyInterceptor(
+        new InMemoryIdempotencyStore(100), new ApiDataReplayer(new ObjectMapper()), properties);
+    this.mockMvc = this.mockMvc(this.interceptor);
+  }
+
+  @Test
+  void duplicateIsReplayedWithoutRunningTheHandler() throws Exception {
+    this.mockMvc.perform(order("k1", "book").principal(ALICE))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.data.sequence").value(1));
+
+    this.mockMvc.perform(order("k1", "book").principal(ALICE))
+        .andExpect(status().isCreated())
+        .andExpect(header().string(IdempotencyInterceptor.REPLAYED_HEADER, "true"))
+        .andExpect(jsonPath("$.data.sequence").value(1));
+
+    assertThat(this.controller.invocations.get()).isEqualTo(1);
+  }
+
+  @Test
+  void sameKeyOfAnotherPrincipalIsNotReplayed() throws Exception {
+    this.mockMvc.perform(order("k1", "book").principal(ALICE))
+        .andExpect(jsonPath("$.data.sequence").value(1));
+
+    this.mockMvc.perform(order("k1", "book").principal(BOB))
+        .andExpect(status().isCreated())
+        .andExpect(header().doesNotExist(IdempotencyInterceptor.REPLAYED_HEADER))
+        .andExpect(jsonPath("$.data.sequence").value(2));
+  }
+
+  @Test
+  void sessionScopesAnonymousCallers() throws Exception {
+    MockHttpSession session = new MockHttpSession();
+    this.mockMvc.perform(order("k1", "book").session(session))
+        .andExpect(jsonPath("$.data.sequence").value(1));
+
+    this.mockMvc.perform(order("k1", "book").session(session))
+        .andExpect(header().string(IdempotencyInterceptor.REPLAYED_HEADER, "true"));
+    this.mockMvc.perform(order("k1", "book").session(new MockHttpSession()))
+        .andExpect(jsonPath("$.data.sequence").value(2));
+  }
+
+  @Test
+  void unscopedCallerIsRejected() throws Exception {
+    this.mockMvc.perform(order("k1", "book"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code").value("IDEMPOTENCY_UNSCOPED"));
+
+    assertThat(this.controller.invocations.get()).isZero();
+  }
+
+  @Test
+  void reusedKeyWithDifferentBodyIsRejected() throws Exception {
+    this.mockMvc.perform(order("k1", "book").principal(ALICE))
+        .andExpect(status().isCreated());
+
+    this.mockMvc.perform(order("k1", "pen").principal(ALICE))
+        .andExpect(status().isUnprocessableEntity())
+        .andExpect(jsonPath("$.code").value("IDEMPOTENCY_KEY_REUSED"));
+
+    assertThat(this.controller.invocations.get()).isEqualTo(1);
+  }
+
+  @Test
+  void missingKeyIsRejected() throws Exception {
+    this.mockMvc.perform(post("/orders")
+            .principal(ALICE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"item\":\"book\"}"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code").value("IDEMPOTENCY_KEY_MISSING"));
+  }
+
+  @Test
+  void inFlightDuplicateIsRejectedWithConflict() throws Exception {
+    this.controller.block();
+    CompletableFuture<Void> first = CompletableFuture.runAsync(() -> {
+      try {
+        this.mockMvc.perform(order("k1", "book").principal(ALICE))
+            .andExpect(status().isCreated());
+      } catch (Exception exception) {
+        throw new IllegalStateException(exception);
+      }
+    });
+    assertThat(this.controller.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+    this.mockMvc.perform(order("k1", "book").principal(ALICE))
+        .andExpect(status().isConflict())
+        .andExpect(jsonPath("$.code").value("IDEMPOTENCY_CONFLICT"));
+
+    this.controller.release.countDown();
+    first.get(5, TimeUnit.SECONDS);
+    this.mockMvc.perform(order("k1", "book").principal(ALICE))
+        .andExpect(header().string(IdempotencyInterceptor.REPLAYED_HEADER, "true"));
+  }
+
+  @Test
+  void rejectionByLaterInterceptorIsNotStored() throws Exception {
+    ConcurrencyLimitInterceptor limiter = new ConcurrencyLimitInterceptor(
+        new ConcurrencyLimiterRegistry(new ApiConcurrencyProperties()),
+        ToolkitErrorCode.TOO_MANY_REQUESTS);
+    MockMvc limited = this.mockMvc(this.interceptor, limiter);
+    this.controller.block();
+    CompletableFuture<Void> first = CompletableFuture.runAsync(() -> {
+      try {
+        limited.perform(order("/limited-orders", "k0", "book").principal(ALICE))
+            .andExpect(status().isCreated());
+      } catch (Exception exception) {
+        throw new IllegalStateException(exception);
+      }
+    });
+    assertThat(this.controller.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+    limited.perform(order("/limited-orders", "k1", "book").principal(ALICE))
+        .andExpect(status().isTooManyRequests())
+        .andExpect(jsonPath("$.code").value("TOO_MANY_REQUESTS"));
+
+    this.controller.release.countDown();
+    first.get(5, TimeUnit.SECONDS);
+    limited.perform(order("/limited-orders", "k1", "book").principal(ALICE))
+        .andExpect(status().isCreated())
+        .andExpect(header().doesNotExist(IdempotencyInterceptor.REPLAYED_HEADER))
+        .andExpect(jsonPath("$.data.sequence").value(2));
+  }
+
+  private MockMvc mockMvc(HandlerInterceptor... interceptors) {
+    return MockMvcBuilders.standaloneSetup(this.controller)
+        .setControllerAdvice(new ApiDataAdvice(), new IdempotencyFingerprintAdvice(),
+            new GlobalExceptionHandler(new ApiLogProperties()))
+        .addInterceptors(interceptors)
+        .build();
+  }
+
+  private static MockHttpServletRequestBuilder order(String key, String item) {
+    return order("/orders", key, item);
+  }
+
+  private static MockHttpServletRequestBuilder order(String path, String key, String item) {
+    return post(path)
+        .header("Idempotency-Key", key)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("{\"item\":\"" + item + "\"}");
+  }
+
+  @RestController
+  static class TestController {
+
+    private final AtomicInteger invocations = new AtomicInteger();
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private volatile CountDownLatch release;
+
+    void block() {
+      this.release = new CountDownLatch(1);
+    }
+
+    @Idempotent
+    @PostMapping("/orders")
+    ApiData<OrderResult> create(@RequestBody OrderRequest request) throws InterruptedException {
+      int sequence = this.invocations.incrementAndGet();
+      this.entered.countDown();
+      CountDownLatch latch = this.release;
+      if (latch != null) {
+        latch.await(5, TimeUnit.SECONDS);
+      }
+      return ApiData.created(new OrderResult(request.item(), sequence));
+    }
+
+    @Idempotent
+    @ConcurrencyLimit(initialLimit = 1, maxLimit = 1)
+    @PostMapping("/limited-orders")
+    ApiData<OrderResult> createLimited(@RequestBody OrderRequest request)
+        throws InterruptedException {
+      return this.create(request);
+    }
+  }
+
+  record OrderRequest(String item) {
+  }
+
+  record OrderResult(String item, int sequence) {
+  }
+}
@@ -0,0 +1,101 @@
+package com.soyesenna.spring_api_toolkit.api.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.soyesenna.spring_api_toolkit.api.replay.CapturedResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class InMemoryIdempotencyStoreTest {
+
+  private static final Duration LOCK = Duration.ofMinutes(1);
+  private static final Duration TTL = Duration.ofMinutes(5);
+
+  @Test
+  void reservedKeyCannotBeReservedAgain() {
+    InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(10);
+
+    assertThat(store.reserve("a", LOCK)).isTrue();
+    assertThat(store.reserve("a", LOCK)).isFalse();
+    assertThat(store.find("a")).isNull();
+  }
+
+  @Test
+  void completedKeyIsReplayed() {
+    InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(10);
+    IdempotentResponse response = response("hash");
+
+    store.reserve("a", LOCK);
+    store.complete("a", response, TTL);
+
+    assertThat(store.find("a")).isSameAs(response);
+    assertThat(store.reserve("a", LOCK)).isFalse();
+  }
+
+  @Test
+  void releasedKeyCanBeRetried() {
+    InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(10);
+
+    store.reserve("a", LOCK);
+    store.release("a");
+
+    assertThat(store.reserve("a", LOCK)).isTrue();
+  }
+
+  @Test
+  void oldestKeyIsEvictedBeyondMaxEntries() {
+    InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(2);
+    store.reserve("a", LOCK);
+    store.complete("a", response(null), TTL);
+    store.reserve("b", LOCK);
+    store.reserve("c", LOCK);
+
+    assertThat(store.find("a")).isNull();
+    assertThat(store.reserve("a", LOCK)).isTrue();
+    assertThat(store.reserve("c", LOCK)).isFalse();
+  }
+
+  @Test
+  void expiredReservationCanBeTakenOver() throws Exception {
+    InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(10);
+    store.reserve("a", Duration.ofMillis(1));
+
+    Thread.sleep(20);
+
+    assertThat(store.reserve("a", LOCK)).isTrue();
+  }
+
+  @Test
+  void awaitReturnsTheResponseOfTheInFlightRequest() throws Exception {
+    InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(10);
+    IdempotentResponse response = response("hash");
+    store.reserve("a", LOCK);
+
+    CompletableFuture<IdempotentResponse> waiter = CompletableFuture.supplyAsync(() -> {
+      try {
+        return store.await("a", Duration.ofSeconds(5));
+      } catch (InterruptedException exception) {
+        throw new IllegalStateException(exception);
+      }
+    });
+    store.complete("a", response, TTL);
+
+    assertThat(waiter.get(5, TimeUnit.SECONDS)).isSameAs(response);
+  }
+
+  @Test
+  void awaitReturnsNullWhenTheInFlightRequestIsReleased() throws Exception {
+    InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(10);
+    store.reserve("a", LOCK);
+    store.release("a");
+
+    assertThat(store.await("a", Duration.ofMillis(50))).isNull();
+  }
+
+  private static IdempotentResponse response(String fingerprint) {
+    return new IdempotentResponse(new CapturedResponse(201, Map.of(), new byte[0]), fingerprint);
+  }
+}
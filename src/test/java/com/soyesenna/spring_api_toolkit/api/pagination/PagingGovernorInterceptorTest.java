@@ -0,0 +1,60 @@
+package com.soyesenna.spring_api_toolkit.api.pagination;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.soyesenna.spring_api_toolkit.api.advice.ApiDataAdvice;
+import com.soyesenna.spring_api_toolkit.api.core.ApiData;
+import com.soyesenna.spring_api_toolkit.config.ApiLogProperties;
+import com.soyesenna.spring_api_toolkit.exception.handler.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+class PagingGovernorInterceptorTest {
+
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    this.mockMvc = MockMvcBuilders.standaloneSetup(new PagedController())
+        .addInterceptors(new PagingGovernorInterceptor(new PagingGovernor(new PagingProperties())))
+        .setControllerAdvice(new GlobalExceptionHandler(new ApiLogProperties()),
+            new ApiDataAdvice())
+        .build();
+  }
+
+  @Test
+  void pagingLimitCapsTheBoundSize() throws Exception {
+    this.mockMvc.perform(get("/paged").param("page", "2").param("size", "500"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data").value(50));
+  }
+
+  @Test
+  void pageBeyondMaxOffsetAnswersPageOutOfRange() throws Exception {
+    this.mockMvc.perform(get("/paged").param("page", "4").param("size", "50"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code").value("PAGE_OUT_OF_RANGE"));
+  }
+
+  @Test
+  void lastPageWithinMaxOffsetIsServed() throws Exception {
+    this.mockMvc.perform(get("/paged").param("page", "3").param("size", "50"))
+        .andExpect(status().isOk());
+  }
+
+  @RestController
+  static class PagedController {
+
+    @PagingLimit(maxSize = 50, maxOffset = 100)
+    @GetMapping("/paged")
+    ApiData<Integer> paged(PagingRequest pagingRequest) {
+      return ApiData.ok(pagingRequest.size());
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package com.soyesenna.spring_api_toolkit.api.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.method.HandlerMethod;
+
+class PagingGovernorTest {
+
+  private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+  private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private PagingProperties properties;
+  private PagingGovernor governor;
+
+  @BeforeEach
+  void setUp() {
+    this.properties = new PagingProperties();
+    PagingProperties.Adaptive adaptive = this.properties.getAdaptive();
+    adaptive.setEnabled(true);
+    adaptive.setLatencyBudget(Duration.ofMillis(100));
+    adaptive.setBytesBudget(DataSize.ofKilobytes(100));
+    adaptive.setMinSize(10);
+    // every sample closes a window, so each record adjusts the limit
+    adaptive.setWindow(Duration.ZERO);
+    this.governor = new PagingGovernor(this.properties);
+  }
+
+  @Test
+  void slowEndpointIsHalvedDownToMinSize() throws Exception {
+    PagingGovernor.Endpoint endpoint = this.governor.endpointOf(handler("limited"));
+
+    this.governor.record(endpoint, SLOW, 0);
+    assertThat(endpoint.limits().maxSize()).isEqualTo(100);
+
+    for (int i = 0; i < 10; i++) {
+      this.governor.record(endpoint, SLOW, 0);
+    }
+    assertThat(endpoint.limits().maxSize()).isEqualTo(10);
+  }
+
+  @Test
+  void largeResponsesShrinkTheLimit() throws Exception {
+    PagingGovernor.Endpoint endpoint = this.governor.endpointOf(handler("limited"));
+
+    this.governor.record(endpoint, FAST, DataSize.ofKilobytes(500).toBytes());
+
+    assertThat(endpoint.limits().maxSize()).isEqualTo(100);
+  }
+
+  @Test
+  void recoveredEndpointGrowsBackToConfiguredSize() throws Exception {
+    PagingGovernor.Endpoint endpoint = this.governor.endpointOf(handler("limited"));
+    this.governor.record(endpoint, SLOW, 0);
+
+    this.governor.record(endpoint, FAST, 0);
+    assertThat(endpoint.limits().maxSize()).isEqualTo(120);
+
+    for (int i = 0; i < 10; i++) {
+      this.governor.record(endpoint, FAST, 0);
+    }
+    assertThat(endpoint.limits().maxSize()).isEqualTo(200);
+  }
+
+  @Test
+  void latencyBetweenHalfAndFullBudgetKeepsTheLimit() throws Exception {
+    PagingGovernor.Endpoint endpoint = this.governor.endpointOf(handler("limited"));
+    this.governor.record(endpoint, SLOW, 0);
+
+    this.governor.record(endpoint, TimeUnit.MILLISECONDS.toNanos(75), 0);
+
+    assertThat(endpoint.limits().maxSize()).isEqualTo(100);
+  }
+
+  @Test
+  void pagingLimitOverridesGlobalLimits() throws Exception {
+    PagingGovernor.Endpoint endpoint = this.governor.endpointOf(handler("limited"));
+
+    assertThat(endpoint.limits()).isEqualTo(new PagingLimits(200, 1000));
+    assertThat(endpoint.isAdaptive()).isTrue();
+  }
+
+  @Test
+  void endpointCanOptOutOfAdaptiveSizing() throws Exception {
+    PagingGovernor.Endpoint endpoint = this.governor.endpointOf(handler("fixed"));
+
+    assertThat(endpoint.isAdaptive()).isFalse();
+    assertThat(endpoint.limits().maxSize()).isEqualTo(PagingRequest.globalLimits().maxSize());
+  }
+
+  @Test
+  void handlerWithoutPagingRequestIsIgnored() throws Exception {
+    assertThat(this.governor.endpointOf(handler("unpaged"))).isNull();
+  }
+
+  private static HandlerMethod handler(String name) throws NoSuchMethodException {
+    Class<?>[] parameterTypes = name.equals("unpaged")
+        ? new Class<?>[0]
+        : new Class<?>[]{PagingRequest.class};
+    return new HandlerMethod(new PagedController(),
+        PagedController.class.getDeclaredMethod(name, parameterTypes));
+  }
+
+  static class PagedController {
+
+    @PagingLimit(maxSize = 200, maxOffset = 1000)
+    String limited(PagingRequest pagingRequest) {
+      return "limited";
+    }
+
+    @PagingLimit(adaptive = false)
+    String fixed(PagingRequest pagingRequest) {
+      return "fixed";
+    }
+
+    String unpaged() {
+      return "unpaged";
+    }
+  }
+}
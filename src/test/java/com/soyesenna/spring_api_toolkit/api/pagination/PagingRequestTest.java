@@ -0,0 +1,54 @@
+package com.soyesenna.spring_api_toolkit.api.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.soyesenna.spring_api_toolkit.exception.CoreException;
+import com.soyesenna.spring_api_toolkit.exception.error.ToolkitErrorCode;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.Test;
+
+class PagingRequestTest {
+
+  @Test
+  void appliesThePageWindow() {
+    TypedQuery<String> query = query();
+
+    new PagingRequest(3, 20, null).applyTo(query);
+
+    verify(query).setFirstResult(40);
+    verify(query).setMaxResults(20);
+  }
+
+  @Test
+  void offsetBeyondIntRangeIsRejected() {
+    TypedQuery<String> query = query();
+    PagingRequest request = new PagingRequest(Integer.MAX_VALUE, 1000, null);
+
+    assertThatThrownBy(() -> request.applyTo(query))
+        .isInstanceOf(CoreException.class)
+        .extracting(exception -> ((CoreException) exception).getErrorCode())
+        .isEqualTo(ToolkitErrorCode.PAGE_OUT_OF_RANGE);
+  }
+
+  @Test
+  void pageBeyondMaxOffsetIsRejected() {
+    PagingLimitContext.set(new PagingLimits(100, 1000));
+    try {
+      assertThatThrownBy(() -> new PagingRequest(12, 100, null))
+          .isInstanceOf(CoreException.class)
+          .extracting(exception -> ((CoreException) exception).getErrorCode())
+          .isEqualTo(ToolkitErrorCode.PAGE_OUT_OF_RANGE);
+      assertThat(new PagingRequest(11, 100, null).page()).isEqualTo(11);
+    } finally {
+      PagingLimitContext.clear();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static TypedQuery<String> query() {
+    return mock(TypedQuery.class);
+  }
+}
@@ -0,0 +1,79 @@
+package com.soyesenna.spring_api_toolkit.api.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+class PagingResponseTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void fromPageCopiesContentAndMetadata() {
+    List<String> content = new ArrayList<>(List.of("a", "b"));
+    Page<String> page = new PageImpl<>(content,
+        PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "name")), 5);
+
+    PagingResponse<String> response = PagingResponse.from(page);
+    content.set(0, "changed");
+
+    assertThat(response.content()).containsExactly("a", "b");
+    assertThatThrownBy(() -> response.content().add("c"))
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThat(response.page()).isEqualTo(2);
+    assertThat(response.size()).isEqualTo(2);
+    assertThat(response.totalElements()).isEqualTo(5);
+    assertThat(response.totalPages()).isEqualTo(3);
+    assertThat(response.hasNext()).isTrue();
+    assertThat(response.hasPrevious()).isTrue();
+    assertThat(response.sort()).containsExactly(new SortRequest("name", Sort.Direction.DESC));
+  }
+
+  @Test
+  void mapperRunsOnceInsideFrom() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    Page<Integer> page = new PageImpl<>(List.of(1, 2, 3));
+
+    PagingResponse<String> response = PagingResponse.from(page, counting(calls));
+    assertThat(calls).hasValue(3);
+
+    this.objectMapper.writeValueAsString(response);
+    this.objectMapper.writeValueAsString(response);
+    assertThat(response.content()).containsExactly("#1", "#2", "#3");
+    assertThat(calls).hasValue(3);
+  }
+
+  @Test
+  void lazyMapperRunsOnceOnFirstRead() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    Page<Integer> page = new PageImpl<>(List.of(1, 2, 3));
+
+    PagingResponse<String> response = PagingResponse.lazy(page, counting(calls));
+    assertThat(calls).hasValue(0);
+
+    String json = this.objectMapper.writeValueAsString(response);
+    this.objectMapper.writeValueAsString(response);
+    assertThat(json).contains("\"content\":[\"#1\",\"#2\",\"#3\"]");
+    assertThat(response.content()).containsExactly("#1", "#2", "#3");
+    assertThat(calls).hasValue(3);
+    assertThatThrownBy(() -> response.content().set(0, "x"))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  private static Function<Integer, String> counting(AtomicInteger calls) {
+    return value -> {
+      calls.incrementAndGet();
+      return "#" + value;
+    };
+  }
+}
@@ -0,0 +1,66 @@
+package com.soyesenna.spring_api_toolkit.api.profiler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.soyesenna.spring_api_toolkit.config.ApiProfilerProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.method.HandlerMethod;
+
+class ApiProfilerTest {
+
+  @Test
+  void handlerMethodsAreProfiledPerMethod() throws Exception {
+    ApiProfiler profiler = new ApiProfiler(properties(false));
+    HandlerMethod items = new HandlerMethod(new ItemController(),
+        ItemController.class.getDeclaredMethod("items"));
+
+    profiler.record(items, 1_000_000, 10, false);
+    profiler.record(items, 2_000_000, 10, true);
+    profiler.rollInterval();
+
+    assertThat(profiler.getProfiles()).singleElement().satisfies(profile -> {
+      assertThat(profile.handler()).isEqualTo("ItemController#items");
+      assertThat(profile.requests()).isEqualTo(2);
+      assertThat(profile.errors()).isEqualTo(1);
+    });
+  }
+
+  @Test
+  void unmappedRequestsAreSkippedByDefault() {
+    ApiProfiler profiler = new ApiProfiler(properties(false));
+
+    profiler.record(null, 1_000_000, 0, true);
+    profiler.record(new Object(), 1_000_000, 0, false);
+    profiler.rollInterval();
+
+    assertThat(profiler.getProfiles()).isEmpty();
+  }
+
+  @Test
+  void unmappedRequestsAreRecordedWhenEnabled() {
+    ApiProfiler profiler = new ApiProfiler(properties(true));
+
+    profiler.record(null, 1_000_000, 0, true);
+    profiler.record(new Object(), 1_000_000, 0, false);
+    profiler.rollInterval();
+
+    assertThat(profiler.getProfiles()).singleElement().satisfies(profile -> {
+      assertThat(profile.handler()).isEqualTo("<unmapped>");
+      assertThat(profile.requests()).isEqualTo(2);
+    });
+  }
+
+  private static ApiProfilerProperties properties(boolean recordUnmapped) {
+    ApiProfilerProperties properties = new ApiProfilerProperties();
+    properties.setLogSummary(false);
+    properties.setRecordUnmapped(recordUnmapped);
+    return properties;
+  }
+
+  static class ItemController {
+
+    String items() {
+      return "items";
+    }
+  }
+}
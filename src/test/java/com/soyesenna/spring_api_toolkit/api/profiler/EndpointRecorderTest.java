@@ -0,0 +1,66 @@
+package com.soyesenna.spring_api_toolkit.api.profiler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class EndpointRecorderTest {
+
+  @Test
+  void swapRetiresTheIntervalAndKeepsTotals() {
+    EndpointRecorder recorder = new EndpointRecorder("TestController#items");
+    recorder.record(2_000_000, 100, false);
+    recorder.record(4_000_000, 300, true);
+
+    EndpointProfile first = recorder.swap();
+    assertThat(first.requests()).isEqualTo(2);
+    assertThat(first.errors()).isEqualTo(1);
+    assertThat(first.avgBytes()).isEqualTo(200);
+    assertThat(first.maxMicros()).isBetween(4_000L, 4_250L);
+
+    recorder.record(1_000_000, 0, false);
+    EndpointProfile second = recorder.swap();
+    assertThat(second.requests()).isEqualTo(1);
+    assertThat(second.totalRequests()).isEqualTo(3);
+    assertThat(second.totalErrors()).isEqualTo(1);
+  }
+
+  @Test
+  void noRecordIsLostWhileSwappingConcurrently() throws Exception {
+    EndpointRecorder recorder = new EndpointRecorder("TestController#items");
+    int writers = 4;
+    int recordsPerWriter = 50_000;
+    ExecutorService executor = Executors.newFixedThreadPool(writers);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+    try {
+      for (int i = 0; i < writers; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          for (int j = 0; j < recordsPerWriter; j++) {
+            recorder.record(1_000, 1, false);
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+      while (futures.stream().anyMatch(future -> !future.isDone())) {
+        recorder.swap();
+      }
+      for (Future<?> future : futures) {
+        future.get(10, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(recorder.swap().totalRequests()).isEqualTo((long) writers * recordsPerWriter);
+  }
+}
@@ -0,0 +1,67 @@
+package com.soyesenna.spring_api_toolkit.api.profiler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+  private static final int LAST_INDEX = LatencyHistogram.BUCKET_COUNT - 1;
+
+  @Test
+  void smallValuesHaveTheirOwnBucket() {
+    for (int value = 0; value < 16; value++) {
+      assertThat(LatencyHistogram.indexOf(value)).isEqualTo(value);
+      assertThat(LatencyHistogram.highestValueOf(value)).isEqualTo(value);
+    }
+    assertThat(LatencyHistogram.indexOf(16)).isEqualTo(16);
+    assertThat(LatencyHistogram.indexOf(31)).isEqualTo(31);
+    assertThat(LatencyHistogram.indexOf(32)).isEqualTo(LatencyHistogram.indexOf(33));
+  }
+
+  @Test
+  void bucketBoundariesAreContiguous() {
+    for (int index = 0; index < LAST_INDEX; index++) {
+      long highest = LatencyHistogram.highestValueOf(index);
+      assertThat(LatencyHistogram.indexOf(highest)).isEqualTo(index);
+      assertThat(LatencyHistogram.indexOf(highest + 1)).isEqualTo(index + 1);
+    }
+  }
+
+  @Test
+  void relativeErrorStaysBelowOneSixteenth() {
+    for (long value = 16; value < (1L << 40); value = value * 3 + 7) {
+      long highest = LatencyHistogram.highestValueOf(LatencyHistogram.indexOf(value));
+      assertThat(highest).isGreaterThanOrEqualTo(value);
+      assertThat((double) (highest - value) / value).isLessThan(1.0 / 16);
+    }
+  }
+
+  @Test
+  void outOfRangeValuesAreClamped() {
+    assertThat(LatencyHistogram.indexOf(-1)).isZero();
+    assertThat(LatencyHistogram.indexOf(Long.MAX_VALUE)).isEqualTo(LAST_INDEX);
+    assertThat(LatencyHistogram.highestValueOf(LAST_INDEX)).isEqualTo((1L << 41) - 1);
+  }
+
+  @Test
+  void percentilesReadTheSnapshot() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 0; i < 99; i++) {
+      histogram.record(10);
+    }
+    histogram.record(1_000_000);
+    long[] counts = new long[LatencyHistogram.BUCKET_COUNT];
+    histogram.copyInto(counts);
+
+    assertThat(LatencyHistogram.valueAtPercentile(counts, 100, 50)).isEqualTo(10);
+    assertThat(LatencyHistogram.valueAtPercentile(counts, 100, 99)).isEqualTo(10);
+    assertThat(LatencyHistogram.valueAtPercentile(counts, 100, 100))
+        .isEqualTo(LatencyHistogram.highestValueOf(LatencyHistogram.indexOf(1_000_000)));
+    assertThat(LatencyHistogram.valueAtPercentile(counts, 0, 50)).isZero();
+
+    histogram.reset();
+    histogram.copyInto(counts);
+    assertThat(counts).containsOnly(0L);
+  }
+}
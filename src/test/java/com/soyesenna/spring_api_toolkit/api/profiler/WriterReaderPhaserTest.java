@@ -0,0 +1,52 @@
+package com.soyesenna.spring_api_toolkit.api.profiler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+class WriterReaderPhaserTest {
+
+  @Test
+  void flipWithoutWritersReturnsImmediately() throws Exception {
+    WriterReaderPhaser phaser = new WriterReaderPhaser();
+
+    CompletableFuture.runAsync(phaser::flipPhase).get(5, TimeUnit.SECONDS);
+    CompletableFuture.runAsync(phaser::flipPhase).get(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void flipWaitsForWritersOfThePreviousPhase() throws Exception {
+    WriterReaderPhaser phaser = new WriterReaderPhaser();
+    long epoch = phaser.writerEnter();
+
+    CompletableFuture<Void> flip = CompletableFuture.runAsync(phaser::flipPhase);
+
+    assertThatThrownBy(() -> flip.get(200, TimeUnit.MILLISECONDS))
+        .isInstanceOf(TimeoutException.class);
+    phaser.writerExit(epoch);
+    flip.get(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void writersOfTheNewPhaseDoNotBlockTheFlip() throws Exception {
+    WriterReaderPhaser phaser = new WriterReaderPhaser();
+    phaser.writerExit(phaser.writerEnter());
+    phaser.flipPhase();
+
+    long epoch = phaser.writerEnter();
+    phaser.writerExit(epoch);
+    CompletableFuture.runAsync(phaser::flipPhase).get(5, TimeUnit.SECONDS);
+
+    long pending = phaser.writerEnter();
+    CompletableFuture<Void> flip = CompletableFuture.runAsync(phaser::flipPhase);
+    assertThatThrownBy(() -> flip.get(200, TimeUnit.MILLISECONDS))
+        .isInstanceOf(TimeoutException.class);
+    phaser.writerExit(pending);
+    flip.get(5, TimeUnit.SECONDS);
+    assertThat(flip).isDone();
+  }
+}
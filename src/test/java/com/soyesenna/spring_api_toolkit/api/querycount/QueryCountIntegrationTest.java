@@ -0,0 +1,97 @@
+package com.soyesenna.spring_api_toolkit.api.querycount;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.soyesenna.spring_api_toolkit.config.ApiQueryCountConfiguration;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Counts the statements of a lazy one-to-many graph inside the test-managed transaction, whose
+ * connection is obtained before {@link QueryCount#measure} starts.
+ */
+@DataJpaTest(properties = "api.query-count.enabled=true")
+@Import(ApiQueryCountConfiguration.class)
+class QueryCountIntegrationTest {
+
+  private static final int TEAMS = 3;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @BeforeEach
+  void setUp() {
+    for (int i = 0; i < TEAMS; i++) {
+      Team team = new Team();
+      this.entityManager.persist(team);
+      for (int j = 0; j < 2; j++) {
+        Member member = new Member();
+        member.team = team;
+        this.entityManager.persist(member);
+      }
+    }
+    this.entityManager.flush();
+    this.entityManager.clear();
+  }
+
+  @Test
+  void lazyCollectionsIssueOneStatementPerParent() {
+    long statements = QueryCount.measure(() -> {
+      List<Team> teams = this.entityManager
+          .createQuery("select t from Team t", Team.class)
+          .getResultList();
+      teams.forEach(team -> team.members.size());
+    });
+
+    assertThat(statements).isEqualTo(1 + TEAMS);
+  }
+
+  @Test
+  void fetchJoinLoadsGraphInOneStatement() {
+    long statements = QueryCount.measure(() -> {
+      List<Team> teams = this.entityManager
+          .createQuery("select distinct t from Team t join fetch t.members", Team.class)
+          .getResultList();
+      teams.forEach(team -> team.members.size());
+    });
+
+    assertThat(statements).isEqualTo(1);
+  }
+
+  @Entity
+  @Table(name = "query_count_team")
+  static class Team {
+
+    @Id
+    @GeneratedValue
+    Long id;
+
+    @OneToMany(mappedBy = "team")
+    List<Member> members = new ArrayList<>();
+  }
+
+  @Entity
+  @Table(name = "query_count_member")
+  static class Member {
+
+    @Id
+    @GeneratedValue
+    Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    Team team;
+  }
+}
@@ -0,0 +1,61 @@
+package com.soyesenna.spring_api_toolkit.api.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ResponseSizeFilterTest {
+
+  private static final String BODY = "안녕하세요 hello";
+
+  @Test
+  void unflushedWriterOutputIsWrittenAndCounted() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/items");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    AtomicLong countedInChain = new AtomicLong(-1);
+    HttpServlet servlet = new HttpServlet() {
+      @Override
+      protected void service(HttpServletRequest req, HttpServletResponse resp)
+          throws IOException {
+        resp.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        resp.getWriter().write(BODY);
+        countedInChain.set(ResponseSizeFilter.bytesWritten(req));
+      }
+    };
+
+    new ResponseSizeFilter().doFilter(request, response, new MockFilterChain(servlet));
+
+    int expected = BODY.getBytes(StandardCharsets.UTF_8).length;
+    assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+    assertThat(countedInChain.get()).isEqualTo(expected);
+    assertThat(ResponseSizeFilter.bytesWritten(request)).isEqualTo(expected);
+    assertThat(response.isCommitted()).isFalse();
+  }
+
+  @Test
+  void outputStreamBytesAreCounted() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/items");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    HttpServlet servlet = new HttpServlet() {
+      @Override
+      protected void service(HttpServletRequest req, HttpServletResponse resp)
+          throws IOException {
+        resp.getOutputStream().write(new byte[42]);
+      }
+    };
+
+    new ResponseSizeFilter().doFilter(request, response, new MockFilterChain(servlet));
+
+    assertThat(response.getContentAsByteArray()).hasSize(42);
+    assertThat(ResponseSizeFilter.bytesWritten(request)).isEqualTo(42);
+  }
+}
@@ -0,0 +1,110 @@
+package com.soyesenna.spring_api_toolkit.api.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+class StatementObservingDataSourcePostProcessorTest {
+
+  private final AtomicReference<StatementListener> active = new AtomicReference<>();
+  private final AtomicBoolean observed = new AtomicBoolean();
+  private final AtomicLong executed = new AtomicLong();
+  private Connection rawConnection;
+  private Statement rawStatement;
+  private PreparedStatement rawPreparedStatement;
+  private DataSource dataSource;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() throws Exception {
+    this.rawConnection = mock(Connection.class);
+    this.rawStatement = mock(Statement.class);
+    this.rawPreparedStatement = mock(PreparedStatement.class);
+    when(this.rawConnection.createStatement()).thenReturn(this.rawStatement);
+    when(this.rawConnection.prepareStatement("select 1")).thenReturn(this.rawPreparedStatement);
+    DataSource target = mock(DataSource.class);
+    when(target.getConnection()).thenReturn(this.rawConnection);
+
+    StatementListener.Provider provider = new StatementListener.Provider() {
+      @Override
+      public StatementListener current() {
+        return StatementObservingDataSourcePostProcessorTest.this.active.get();
+      }
+
+      @Override
+      public void dataSourceObserved() {
+        StatementObservingDataSourcePostProcessorTest.this.observed.set(true);
+      }
+    };
+    ObjectProvider<StatementListener.Provider> providers = mock(ObjectProvider.class);
+    when(providers.orderedStream()).thenAnswer(invocation -> Stream.of(provider));
+
+    this.dataSource = (DataSource) new StatementObservingDataSourcePostProcessor(providers)
+        .postProcessAfterInitialization(new DelegatingDataSource(target), "dataSource");
+  }
+
+  @Test
+  void providersAreToldTheDataSourceIsObserved() {
+    assertThat(this.observed).isTrue();
+  }
+
+  @Test
+  void connectionObtainedBeforeListenerIsActiveIsObserved() throws Exception {
+    Connection connection = this.dataSource.getConnection();
+
+    this.active.set(elapsedNanos -> this.executed.incrementAndGet());
+    connection.prepareStatement("select 1").executeQuery();
+    connection.createStatement().execute("select 1");
+
+    assertThat(this.executed).hasValue(2);
+    verify(this.rawStatement).execute("select 1");
+  }
+
+  @Test
+  void statementsCreatedWithoutActiveListenerAreNotWrapped() throws Exception {
+    Connection connection = this.dataSource.getConnection();
+
+    assertThat(connection.createStatement()).isSameAs(this.rawStatement);
+    assertThat(connection.prepareStatement("select 1")).isSameAs(this.rawPreparedStatement);
+
+    this.active.set(elapsedNanos -> this.executed.incrementAndGet());
+    Statement observed = connection.createStatement();
+    assertThat(observed).isNotSameAs(this.rawStatement);
+    observed.execute("select 1");
+    assertThat(this.executed).hasValue(1);
+
+    this.active.set(null);
+    observed.execute("select 1");
+    assertThat(this.executed).hasValue(1);
+  }
+
+  @Test
+  void proxiesAnswerObjectMethodsThemselves() throws Exception {
+    Connection connection = this.dataSource.getConnection();
+    this.active.set(elapsedNanos -> this.executed.incrementAndGet());
+    Statement statement = connection.createStatement();
+
+    assertThat(connection.equals(connection)).isTrue();
+    assertThat(connection.equals(this.rawConnection)).isFalse();
+    assertThat(connection.hashCode()).isEqualTo(System.identityHashCode(connection));
+    assertThat(connection.toString()).startsWith("Observed ");
+    assertThat(statement.equals(statement)).isTrue();
+    assertThat(statement.equals(this.rawStatement)).isFalse();
+    assertThat(statement.hashCode()).isEqualTo(System.identityHashCode(statement));
+    assertThat(statement.getConnection()).isSameAs(connection);
+  }
+}
@@ -0,0 +1,72 @@
+package com.soyesenna.spring_api_toolkit.api.timing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.soyesenna.spring_api_toolkit.config.ApiServerTimingProperties;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ServerTimingFilterTest {
+
+  private ApiServerTimingProperties properties;
+
+  @BeforeEach
+  void setUp() {
+    this.properties = new ApiServerTimingProperties();
+    this.properties.setEnabled(true);
+  }
+
+  @Test
+  void triggerHeaderIsIgnoredWithoutTriggerValue() throws Exception {
+    assertThat(this.timed("anything")).isNull();
+  }
+
+  @Test
+  void matchingTriggerValueEnablesTiming() throws Exception {
+    this.properties.setTriggerValue("secret");
+
+    assertThat(this.timed(" secret ")).isNotNull();
+  }
+
+  @Test
+  void otherTriggerValueIsIgnored() throws Exception {
+    this.properties.setTriggerValue("secret");
+
+    assertThat(this.timed("guess")).isNull();
+    assertThat(this.timed(null)).isNull();
+  }
+
+  @Test
+  void sampledRequestIsTimedWithoutTrigger() throws Exception {
+    this.properties.setSampleRate(1.0);
+
+    assertThat(this.timed(null)).isNotNull();
+  }
+
+  private ServerTiming timed(String trigger) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/items");
+    if (trigger != null) {
+      request.addHeader(this.properties.getTriggerHeader(), trigger);
+    }
+    AtomicReference<ServerTiming> timing = new AtomicReference<>();
+    HttpServlet servlet = new HttpServlet() {
+      @Override
+      protected void service(HttpServletRequest req, HttpServletResponse resp) {
+        timing.set(ServerTiming.current());
+      }
+    };
+
+    new ServerTimingFilter(this.properties)
+        .doFilter(request, new MockHttpServletResponse(), new MockFilterChain(servlet));
+
+    assertThat(ServerTiming.current()).isNull();
+    return timing.get();
+  }
+}
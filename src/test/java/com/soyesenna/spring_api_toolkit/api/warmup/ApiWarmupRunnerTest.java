@@ -0,0 +1,151 @@
+package com.soyesenna.spring_api_toolkit.api.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.soyesenna.spring_api_toolkit.config.ApiWarmupConfiguration;
+import com.soyesenna.spring_api_toolkit.config.ApiWarmupProperties;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class ApiWarmupRunnerTest {
+
+  @Test
+  void readinessRefusesTrafficUntilWarmupCompleted() {
+    try (GenericApplicationContext context = new GenericApplicationContext()) {
+      context.registerBean(ApplicationAvailabilityBean.class);
+      context.refresh();
+      ApplicationAvailabilityBean availability = context.getBean(ApplicationAvailabilityBean.class);
+      AvailabilityChangeEvent.publish(context, ReadinessState.ACCEPTING_TRAFFIC);
+
+      List<ReadinessState> observed = new ArrayList<>();
+      List<ApiWarmupRunner> runner = new ArrayList<>();
+      WarmupTask task = () -> {
+        observed.add(availability.getReadinessState());
+        assertThat(runner.get(0).getLastReport()).isNull();
+      };
+      runner.add(new ApiWarmupRunner(context, properties(3), List.of(task), List.of()));
+
+      runner.get(0).run(null);
+
+      assertThat(observed).hasSize(3).containsOnly(ReadinessState.REFUSING_TRAFFIC);
+      assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.REFUSING_TRAFFIC);
+      assertThat(runner.get(0).getLastReport().iterations()).isEqualTo(3);
+    }
+  }
+
+  @Test
+  void failuresAreCountedWithoutAbortingTheWarmup() {
+    try (GenericApplicationContext context = new GenericApplicationContext()) {
+      context.refresh();
+      WarmupTask failing = () -> {
+        throw new IllegalStateException("cold");
+      };
+      WarmupTask passing = () -> {
+      };
+      ApiWarmupRunner runner = new ApiWarmupRunner(context, properties(5),
+          List.of(failing, passing), List.of());
+
+      WarmupReport report = runner.warmUp();
+
+      assertThat(report.iterations()).isEqualTo(5);
+      assertThat(report.failures()).isEqualTo(5);
+      assertThat(report.requests()).isZero();
+    }
+  }
+
+  @Test
+  void requestsTargetTheBoundAddressAndContextPath() {
+    ApiWarmupProperties properties = properties(1);
+    properties.setPaths(List.of("/items?page=1"));
+    properties.setErrorProbe(true);
+    ApiWarmupRunner runner = new ApiWarmupRunner(webContext("10.0.0.5", "/api"), properties,
+        List.of(), List.of());
+
+    List<HttpRequest> requests = runner.buildHttpRequests("token");
+
+    assertThat(requests).extracting(HttpRequest::uri).containsExactly(
+        URI.create("http://10.0.0.5:8080/api/items?page=1"),
+        URI.create("http://10.0.0.5:8080/api" + ApiWarmupRunner.ERROR_PROBE_PATH));
+    assertThat(requests).allSatisfy(request ->
+        assertThat(request.headers().firstValue(WarmupMarker.HEADER)).hasValue("token"));
+  }
+
+  @Test
+  void wildcardAndIpv6AddressesAreReachable() {
+    ApiWarmupProperties properties = properties(1);
+    properties.setPaths(List.of("/items"));
+
+    assertThat(new ApiWarmupRunner(webContext("0.0.0.0", ""), properties, List.of(), List.of())
+        .buildHttpRequests("token").get(0).uri())
+        .isEqualTo(URI.create("http://localhost:8080/items"));
+    assertThat(new ApiWarmupRunner(webContext("::1", ""), properties, List.of(), List.of())
+        .buildHttpRequests("token").get(0).uri())
+        .isEqualTo(URI.create("http://[::1]:8080/items"));
+  }
+
+  @Test
+  void markerIsOnlyHonouredWhileWarmupRuns() {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/items");
+    request.addHeader(WarmupMarker.HEADER, "forged");
+    assertThat(WarmupMarker.isWarmup(request)).isFalse();
+
+    String token = WarmupMarker.start();
+    try {
+      MockHttpServletRequest warmup = new MockHttpServletRequest("GET", "/items");
+      warmup.addHeader(WarmupMarker.HEADER, token);
+      assertThat(WarmupMarker.isWarmup(warmup)).isTrue();
+      assertThat(WarmupMarker.isWarmup(request)).isFalse();
+    } finally {
+      WarmupMarker.finish();
+    }
+
+    MockHttpServletRequest late = new MockHttpServletRequest("GET", "/items");
+    late.addHeader(WarmupMarker.HEADER, token);
+    assertThat(WarmupMarker.isWarmup(late)).isFalse();
+  }
+
+  @Test
+  void runnerIsOnlyRegisteredWhenEnabled() {
+    WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+        .withUserConfiguration(ApiWarmupConfiguration.class);
+
+    contextRunner.run(context -> assertThat(context).doesNotHaveBean(ApiWarmupRunner.class));
+    contextRunner.withPropertyValues("api.warmup.enabled=false")
+        .run(context -> assertThat(context).doesNotHaveBean(ApiWarmupRunner.class));
+    contextRunner.withPropertyValues("api.warmup.enabled=true")
+        .run(context -> assertThat(context).hasSingleBean(ApiWarmupRunner.class));
+  }
+
+  private static ApiWarmupProperties properties(int iterations) {
+    ApiWarmupProperties properties = new ApiWarmupProperties();
+    properties.setIterations(iterations);
+    properties.setErrorProbe(false);
+    return properties;
+  }
+
+  private static WebServerApplicationContext webContext(String address, String contextPath) {
+    MockEnvironment environment = new MockEnvironment()
+        .withProperty("server.address", address)
+        .withProperty("server.servlet.context-path", contextPath);
+    WebServer webServer = mock(WebServer.class);
+    given(webServer.getPort()).willReturn(8080);
+    WebServerApplicationContext context = mock(WebServerApplicationContext.class);
+    given(context.getWebServer()).willReturn(webServer);
+    given(context.getEnvironment()).willReturn(environment);
+    return context;
+  }
+}
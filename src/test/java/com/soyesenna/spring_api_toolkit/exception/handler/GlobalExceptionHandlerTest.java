@@ -0,0 +1,107 @@
+package com.soyesenna.spring_api_toolkit.exception.handler;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.soyesenna.spring_api_toolkit.api.advice.ApiDataAdvice;
+import com.soyesenna.spring_api_toolkit.api.core.ApiData;
+import com.soyesenna.spring_api_toolkit.config.ApiLogProperties;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.BindException;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+class GlobalExceptionHandlerTest {
+
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    this.mockMvc = MockMvcBuilders.standaloneSetup(new TestController())
+        .setControllerAdvice(new GlobalExceptionHandler(new ApiLogProperties()),
+            new ApiDataAdvice())
+        .build();
+  }
+
+  @Test
+  void unknownPathAnswersNotFound() throws Exception {
+    this.mockMvc.perform(get("/missing"))
+        .andExpect(status().isNotFound())
+        .andExpect(jsonPath("$.success").value(false))
+        .andExpect(jsonPath("$.code").value("NOT_FOUND"));
+  }
+
+  @Test
+  void unsupportedMethodAnswersMethodNotAllowedWithAllowHeader() throws Exception {
+    this.mockMvc.perform(delete("/items"))
+        .andExpect(status().isMethodNotAllowed())
+        .andExpect(header().string(HttpHeaders.ALLOW, containsString("GET")))
+        .andExpect(header().string(HttpHeaders.ALLOW, containsString("POST")))
+        .andExpect(jsonPath("$.code").value("METHOD_NOT_ALLOWED"));
+  }
+
+  @Test
+  void invalidBodyAnswersValidationErrors() throws Exception {
+    this.mockMvc.perform(post("/items")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"name\":\"\"}"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"))
+        .andExpect(jsonPath("$.data.name").exists());
+  }
+
+  @Test
+  void objectLevelErrorIsKeptInValidationErrors() throws Exception {
+    this.mockMvc.perform(post("/items/global"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"))
+        .andExpect(jsonPath("$.data.itemRequest").value("기간이 올바르지 않습니다."));
+  }
+
+  @Test
+  void malformedBodyAnswersMessageNotReadable() throws Exception {
+    this.mockMvc.perform(post("/items")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"name\":"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code").value("MESSAGE_NOT_READABLE"));
+  }
+
+  @RestController
+  static class TestController {
+
+    @GetMapping("/items")
+    ApiData<String> items() {
+      return ApiData.ok("items");
+    }
+
+    @PostMapping("/items")
+    ApiData<String> create(@Valid @RequestBody ItemRequest request) {
+      return ApiData.created(request.name());
+    }
+
+    @PostMapping("/items/global")
+    ApiData<String> global() throws BindException {
+      BindException exception = new BindException(new ItemRequest("item"), "itemRequest");
+      exception.reject("period", "기간이 올바르지 않습니다.");
+      throw exception;
+    }
+  }
+
+  record ItemRequest(@NotBlank String name) {
+  }
+}
@@ -0,0 +1,87 @@
+package com.soyesenna.spring_api_toolkit.exception.handler;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.soyesenna.spring_api_toolkit.api.advice.ApiDataAdvice;
+import com.soyesenna.spring_api_toolkit.api.core.ApiData;
+import com.soyesenna.spring_api_toolkit.config.ApiLogProperties;
+import com.soyesenna.spring_api_toolkit.exception.error.ToolkitErrorCode;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+class WrappedExceptionHandlerTest {
+
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    this.mockMvc = MockMvcBuilders.standaloneSetup(new WrappingController())
+        .setControllerAdvice(new GlobalExceptionHandler(new ApiLogProperties()),
+            new ApiDataAdvice())
+        .build();
+  }
+
+  @Test
+  void completionExceptionKeepsWrappedErrorCode() throws Exception {
+    this.mockMvc.perform(get("/wrapped/completion"))
+        .andExpect(status().isTooManyRequests())
+        .andExpect(jsonPath("$.code").value("TOO_MANY_REQUESTS"));
+  }
+
+  @Test
+  void nestedExecutionExceptionKeepsWrappedErrorCode() throws Exception {
+    this.mockMvc.perform(get("/wrapped/execution"))
+        .andExpect(status().isGatewayTimeout())
+        .andExpect(jsonPath("$.code").value("DEADLINE_EXCEEDED"));
+  }
+
+  @Test
+  void wrappedUnexpectedExceptionAnswersInternalServerError() throws Exception {
+    this.mockMvc.perform(get("/wrapped/unexpected"))
+        .andExpect(status().isInternalServerError())
+        .andExpect(jsonPath("$.code").value("INTERNAL_SERVER_ERROR"));
+  }
+
+  @Test
+  void joinedFutureKeepsWrappedErrorCode() throws Exception {
+    this.mockMvc.perform(get("/wrapped/join"))
+        .andExpect(status().isTooManyRequests())
+        .andExpect(jsonPath("$.code").value("TOO_MANY_REQUESTS"));
+  }
+
+  @RestController
+  static class WrappingController {
+
+    @GetMapping("/wrapped/completion")
+    ApiData<Void> completion() {
+      throw new CompletionException(ToolkitErrorCode.TOO_MANY_REQUESTS.throwWithoutStackTrace());
+    }
+
+    @GetMapping("/wrapped/execution")
+    ApiData<Void> execution() throws ExecutionException {
+      throw new ExecutionException(
+          new CompletionException(ToolkitErrorCode.DEADLINE_EXCEEDED.throwWithoutStackTrace()));
+    }
+
+    @GetMapping("/wrapped/unexpected")
+    ApiData<Void> unexpected() throws ExecutionException {
+      throw new ExecutionException(new IllegalStateException("boom"));
+    }
+
+    @GetMapping("/wrapped/join")
+    ApiData<Void> join() {
+      return CompletableFuture.<ApiData<Void>>supplyAsync(() -> {
+        throw ToolkitErrorCode.TOO_MANY_REQUESTS.throwWithoutStackTrace();
+      }).join();
+    }
+  }
+}